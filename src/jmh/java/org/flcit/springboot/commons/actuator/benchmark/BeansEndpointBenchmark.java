@@ -0,0 +1,128 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import org.flcit.springboot.commons.actuator.endpoint.ExecutorsEndpoint;
+import org.flcit.springboot.commons.actuator.endpoint.RestTemplatesEndpoint;
+import org.flcit.springboot.commons.actuator.executor.BaseExecutor;
+import org.flcit.springboot.commons.actuator.resttemplate.BaseRestTemplate;
+
+/**
+ * {@code list()} of the beans endpoints by number of beans, with and without snapshot.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeansEndpointBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int beans;
+
+    private GenericApplicationContext context;
+    private ExecutorsEndpoint executorsEndpoint;
+    private RestTemplatesEndpoint restTemplatesEndpoint;
+
+    /**
+     * 
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new GenericApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "management.endpoint.executors.snapshot.max-age", "1s",
+                "management.endpoint.resttemplates.snapshot.max-age", "1s")));
+        for (int i = 0; i < beans; i++) {
+            final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(1);
+            executor.setMaxPoolSize(4);
+            executor.setQueueCapacity(100);
+            context.registerBean("executor" + i, ThreadPoolTaskExecutor.class, () -> executor);
+            context.registerBean("restTemplate" + i, RestTemplate.class, () -> new RestTemplate());
+        }
+        context.refresh();
+        executorsEndpoint = new ExecutorsEndpoint(context);
+        restTemplatesEndpoint = new RestTemplatesEndpoint(context);
+    }
+
+    /**
+     * 
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorsEndpoint.destroy();
+        context.close();
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public Map<String, BaseExecutor> executorsList() {
+        return executorsEndpoint.list(Boolean.TRUE);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public Map<String, BaseExecutor> executorsListSnapshot() {
+        return executorsEndpoint.list(null);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public Map<String, BaseRestTemplate> restTemplatesList() {
+        return restTemplatesEndpoint.list(Boolean.TRUE);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public Map<String, BaseRestTemplate> restTemplatesListSnapshot() {
+        return restTemplatesEndpoint.list(null);
+    }
+
+}
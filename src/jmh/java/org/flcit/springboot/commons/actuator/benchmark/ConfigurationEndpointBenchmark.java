@@ -0,0 +1,126 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.benchmark;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import org.flcit.springboot.commons.actuator.configuration.ConfigurationSearchOperator;
+import org.flcit.springboot.commons.actuator.endpoint.ConfigurationEndpoint;
+
+/**
+ * Search of the configuration endpoint by number of properties, spread on {@value #PROPERTY_SOURCES} property sources.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationEndpointBenchmark {
+
+    private static final int PROPERTY_SOURCES = 10;
+    private static final int GROUPS = 100;
+
+    @Param({ "1000", "10000", "100000" })
+    private int properties;
+
+    private GenericApplicationContext context;
+    private ConfigurationEndpoint endpoint;
+
+    /**
+     * 
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new GenericApplicationContext();
+        for (int source = 0; source < PROPERTY_SOURCES; source++) {
+            final Map<String, Object> values = new HashMap<>();
+            for (int i = source; i < properties; i += PROPERTY_SOURCES) {
+                values.put("app.group" + (i % GROUPS) + ".property" + i, "value" + i);
+            }
+            context.getEnvironment().getPropertySources().addLast(new MapPropertySource("benchmark" + source, values));
+        }
+        context.refresh();
+        endpoint = new ConfigurationEndpoint(context);
+    }
+
+    /**
+     * 
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * @return
+     * @throws IOException
+     */
+    @Benchmark
+    public byte[] get() throws IOException {
+        return endpoint.find("app.group42.property42", null);
+    }
+
+    /**
+     * @return
+     * @throws IOException
+     */
+    @Benchmark
+    public byte[] searchEquals() throws IOException {
+        return endpoint.find("app.group42.property42", ConfigurationSearchOperator.equals);
+    }
+
+    /**
+     * @return
+     * @throws IOException
+     */
+    @Benchmark
+    public byte[] searchStartsWith() throws IOException {
+        return endpoint.find("app.group42.", ConfigurationSearchOperator.startsWith);
+    }
+
+    /**
+     * @return
+     * @throws IOException
+     */
+    @Benchmark
+    public byte[] searchContains() throws IOException {
+        return endpoint.find("group42.", ConfigurationSearchOperator.contains);
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.client.RestTemplate;
+
+import org.flcit.springboot.commons.actuator.executor.BaseExecutor;
+import org.flcit.springboot.commons.actuator.jms.BaseJmsListener;
+import org.flcit.springboot.commons.actuator.resttemplate.BaseRestTemplate;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+
+/**
+ * {@link CommonsActuatorUtils} conversions of a single bean to its DTO.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertBenchmark {
+
+    private ThreadPoolTaskExecutor threadPoolTaskExecutor;
+    private ThreadPoolTaskScheduler threadPoolTaskScheduler;
+    private SimpleAsyncTaskExecutor simpleAsyncTaskExecutor;
+    private ForkJoinPool forkJoinPool;
+    private RestTemplate restTemplate;
+    private DefaultMessageListenerContainer listener;
+
+    /**
+     * 
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.initialize();
+        threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
+        threadPoolTaskScheduler.initialize();
+        simpleAsyncTaskExecutor = new SimpleAsyncTaskExecutor();
+        forkJoinPool = new ForkJoinPool(2);
+        restTemplate = new RestTemplate();
+        listener = new DefaultMessageListenerContainer();
+        listener.setDestinationName("benchmark");
+        listener.setTaskExecutor(simpleAsyncTaskExecutor);
+    }
+
+    /**
+     * 
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        threadPoolTaskExecutor.shutdown();
+        threadPoolTaskScheduler.shutdown();
+        forkJoinPool.shutdown();
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public BaseExecutor threadPoolTaskExecutor() {
+        return CommonsActuatorUtils.convert("executor", threadPoolTaskExecutor);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public BaseExecutor threadPoolTaskScheduler() {
+        return CommonsActuatorUtils.convert("scheduler", threadPoolTaskScheduler);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public BaseExecutor simpleAsyncTaskExecutor() {
+        return CommonsActuatorUtils.convert("simple", simpleAsyncTaskExecutor);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public BaseExecutor forkJoinPool() {
+        return CommonsActuatorUtils.convert("forkJoinPool", forkJoinPool);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public BaseRestTemplate restTemplate() {
+        return CommonsActuatorUtils.convert("restTemplate", restTemplate);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public BaseJmsListener jmsListener() {
+        return CommonsActuatorUtils.convert("listener", listener);
+    }
+
+}
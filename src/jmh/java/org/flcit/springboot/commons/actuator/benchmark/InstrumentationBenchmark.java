@@ -0,0 +1,316 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.benchmark;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.task.TaskDecorator;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.executor.queue.PriorityTaskQueue;
+import org.flcit.springboot.commons.actuator.executor.queue.ResizableBlockingQueue;
+import org.flcit.springboot.commons.actuator.executor.striped.StripedExecutor;
+
+/**
+ * Per task overhead of the executor wrappers, compared to the plain task and to a {@link LinkedBlockingQueue}.
+ * The {@code submit} benchmarks add the {@link FutureTask} created by {@link java.util.concurrent.ExecutorService#submit(Runnable)},
+ * the {@code contended} benchmarks share the wrappers between {@value #THREADS} threads.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+    private static final int CAPACITY = 1024;
+    private static final int THREADS = 4;
+
+    private Runnable task;
+    private InstrumentedTaskDecorator decorator;
+    private DirectExecutorService plainExecutor;
+    private DirectExecutorService instrumentedExecutor;
+    private DirectExecutorService asyncMethodsExecutor;
+    private StripedExecutor stripedExecutor;
+    private BlockingQueue<Runnable> linkedQueue;
+    private BlockingQueue<Runnable> resizableQueue;
+    private BlockingQueue<Runnable> priorityQueue;
+    private long key;
+
+    /**
+     * @param blackhole
+     */
+    @Setup(Level.Trial)
+    public void setUp(final Blackhole blackhole) {
+        task = () -> blackhole.consume(key);
+        decorator = new InstrumentedTaskDecorator(null, false);
+        plainExecutor = new DirectExecutorService(null);
+        instrumentedExecutor = new DirectExecutorService(decorator);
+        asyncMethodsExecutor = new DirectExecutorService(new InstrumentedTaskDecorator(null, true));
+        stripedExecutor = new StripedExecutor(Runnable::run);
+        linkedQueue = new LinkedBlockingQueue<>(CAPACITY);
+        resizableQueue = new ResizableBlockingQueue<>(CAPACITY);
+        priorityQueue = new PriorityTaskQueue(CAPACITY);
+    }
+
+    /**
+     * 
+     */
+    @Benchmark
+    public void baseline() {
+        task.run();
+    }
+
+    /**
+     * 
+     */
+    @Benchmark
+    public void instrumentedTask() {
+        decorator.decorate(task).run();
+    }
+
+    /**
+     * 
+     */
+    @Benchmark
+    public void futureTask() {
+        new FutureTask<>(task, null).run();
+    }
+
+    /**
+     * 
+     */
+    @Benchmark
+    public void instrumentedFutureTask() {
+        decorator.decorate(new FutureTask<>(task, null)).run();
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public Future<?> submit() {
+        return plainExecutor.submit(task);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public Future<?> instrumentedSubmit() {
+        return instrumentedExecutor.submit(task);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public Future<?> asyncMethodsSubmit() {
+        return asyncMethodsExecutor.submit(task);
+    }
+
+    /**
+     * 
+     */
+    @Benchmark
+    public void stripedTask() {
+        stripedExecutor.execute(key++ & 1023, task);
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public Runnable linkedQueue() {
+        linkedQueue.offer(task);
+        return linkedQueue.poll();
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public Runnable resizableQueue() {
+        resizableQueue.offer(task);
+        return resizableQueue.poll();
+    }
+
+    /**
+     * @return
+     */
+    @Benchmark
+    public Runnable priorityQueue() {
+        priorityQueue.offer(task);
+        return priorityQueue.poll();
+    }
+
+    /**
+     * @param shared
+     */
+    @Benchmark
+    @Threads(THREADS)
+    public void contendedInstrumentedTask(final Shared shared) {
+        shared.decorator.decorate(task).run();
+    }
+
+    /**
+     * @param shared
+     * @return
+     */
+    @Benchmark
+    @Threads(THREADS)
+    public Future<?> contendedInstrumentedSubmit(final Shared shared) {
+        return shared.executor.submit(task);
+    }
+
+    /**
+     * @param shared
+     */
+    @Benchmark
+    @Threads(THREADS)
+    public void contendedStripedTask(final Shared shared) {
+        shared.stripedExecutor.execute(ThreadLocalRandom.current().nextInt(1024), task);
+    }
+
+    /**
+     * @param shared
+     * @return
+     */
+    @Benchmark
+    @Threads(THREADS)
+    public Runnable contendedLinkedQueue(final Shared shared) {
+        shared.linkedQueue.offer(task);
+        return shared.linkedQueue.poll();
+    }
+
+    /**
+     * @param shared
+     * @return
+     */
+    @Benchmark
+    @Threads(THREADS)
+    public Runnable contendedResizableQueue(final Shared shared) {
+        shared.resizableQueue.offer(task);
+        return shared.resizableQueue.poll();
+    }
+
+    /**
+     * @param shared
+     * @return
+     */
+    @Benchmark
+    @Threads(THREADS)
+    public Runnable contendedPriorityQueue(final Shared shared) {
+        shared.priorityQueue.offer(task);
+        return shared.priorityQueue.poll();
+    }
+
+    /**
+     * Wrappers shared by the threads of the contended benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        private InstrumentedTaskDecorator decorator;
+        private DirectExecutorService executor;
+        private StripedExecutor stripedExecutor;
+        private BlockingQueue<Runnable> linkedQueue;
+        private BlockingQueue<Runnable> resizableQueue;
+        private BlockingQueue<Runnable> priorityQueue;
+
+        /**
+         * 
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            decorator = new InstrumentedTaskDecorator(null);
+            executor = new DirectExecutorService(decorator);
+            stripedExecutor = new StripedExecutor(Runnable::run);
+            linkedQueue = new LinkedBlockingQueue<>(CAPACITY);
+            resizableQueue = new ResizableBlockingQueue<>(CAPACITY);
+            priorityQueue = new PriorityTaskQueue(CAPACITY);
+        }
+
+    }
+
+    /**
+     * Runs the tasks in the calling thread, decorated as by a {@link org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor}.
+     */
+    private static final class DirectExecutorService extends AbstractExecutorService {
+
+        private final TaskDecorator decorator;
+
+        private DirectExecutorService(final TaskDecorator decorator) {
+            this.decorator = decorator;
+        }
+
+        @Override
+        public void execute(final Runnable command) {
+            (decorator != null ? decorator.decorate(command) : command).run();
+        }
+
+        @Override
+        public void shutdown() {
+            // nothing to release
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, final TimeUnit unit) {
+            return false;
+        }
+
+    }
+
+}
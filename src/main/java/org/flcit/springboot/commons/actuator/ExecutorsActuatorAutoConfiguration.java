@@ -16,27 +16,49 @@
 
 package org.flcit.springboot.commons.actuator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration;
+import org.springframework.boot.actuate.health.SimpleStatusAggregator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.actuate.health.StatusAggregator;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
 
 import org.flcit.springboot.commons.actuator.endpoint.ExecutorsEndpoint;
+import org.flcit.springboot.commons.actuator.executor.health.ExecutorHealthIndicator;
+import org.flcit.springboot.commons.actuator.executor.health.ExecutorHealthThresholds;
+import org.flcit.springboot.commons.actuator.executor.health.ExecutorsHealthContributor;
+import org.flcit.springboot.commons.actuator.executor.instrument.ExecutorInstrumentationBeanPostProcessor;
+import org.flcit.springboot.commons.actuator.executor.metrics.ExecutorsMeterBinder;
+import org.flcit.springboot.commons.actuator.executor.queue.PriorityQueueBeanPostProcessor;
+import org.flcit.springboot.commons.actuator.executor.queue.ResizableQueueBeanPostProcessor;
 
 /**
  * 
  * @since 
  * @author Florian Lestic
  */
-@AutoConfiguration
+@AutoConfiguration(before = HealthEndpointAutoConfiguration.class)
 @ConditionalOnBean(Executor.class)
 @ConditionalOnAvailableEndpoint(endpoint = ExecutorsEndpoint.class)
 public class ExecutorsActuatorAutoConfiguration {
 
+    private static final String PROPERTY_HEALTH_ENABLED = "management.health.executors.enabled";
+    private static final String PROPERTY_HEALTH_STATUS_ORDER = "management.endpoint.health.status.order";
+
     /**
      * @param context
      * @return
@@ -47,4 +69,79 @@ public class ExecutorsActuatorAutoConfiguration {
         return new ExecutorsEndpoint(context);
     }
 
+    /**
+     * @param executorsEndpoint
+     * @return
+     */
+    @Bean
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    @ConditionalOnProperty(name = "management.metrics.executors.enabled", havingValue = "true", matchIfMissing = true)
+    public ExecutorsMeterBinder executorsMeterBinder(ExecutorsEndpoint executorsEndpoint) {
+        return new ExecutorsMeterBinder(executorsEndpoint::getExecutors);
+    }
+
+    /**
+     * @param context
+     * @param executorsEndpoint
+     * @return
+     */
+    @Bean
+    @ConditionalOnProperty(name = PROPERTY_HEALTH_ENABLED, havingValue = "true")
+    public ExecutorsHealthContributor executorsHealthContributor(ConfigurableApplicationContext context, ObjectProvider<ExecutorsEndpoint> executorsEndpoint) {
+        return new ExecutorsHealthContributor(context, ExecutorHealthThresholds.of(context.getEnvironment()),
+                name -> {
+                    final ExecutorsEndpoint endpoint = executorsEndpoint.getIfAvailable();
+                    return endpoint != null ? endpoint.getWarmUpState(name) : null;
+                });
+    }
+
+    /**
+     * Health status order of the application, or the default one, with {@link ExecutorHealthIndicator#DEGRADED} before UP.
+     *
+     * @param context
+     * @return
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = PROPERTY_HEALTH_ENABLED, havingValue = "true")
+    public StatusAggregator executorsStatusAggregator(ConfigurableApplicationContext context) {
+        final List<String> order = new ArrayList<>(Binder.get(context.getEnvironment())
+                .bind(PROPERTY_HEALTH_STATUS_ORDER, Bindable.listOf(String.class))
+                .orElseGet(() -> List.of(Status.DOWN.getCode(), Status.OUT_OF_SERVICE.getCode(), Status.UP.getCode(), Status.UNKNOWN.getCode())));
+        if (order.stream().noneMatch(ExecutorHealthIndicator.DEGRADED.getCode()::equalsIgnoreCase)) {
+            final int up = order.indexOf(Status.UP.getCode());
+            order.add(up < 0 ? order.size() : up, ExecutorHealthIndicator.DEGRADED.getCode());
+        }
+        return new SimpleStatusAggregator(order.toArray(new String[0]));
+    }
+
+    /**
+     * @param environment
+     * @return
+     */
+    @Bean
+    @ConditionalOnProperty(name = "management.endpoint.executors.instrumentation.enabled", havingValue = "true")
+    public static ExecutorInstrumentationBeanPostProcessor executorInstrumentationBeanPostProcessor(Environment environment) {
+        return new ExecutorInstrumentationBeanPostProcessor(
+                environment.getProperty("management.endpoint.executors.instrumentation.async-methods", Boolean.class, Boolean.TRUE));
+    }
+
+    /**
+     * @return
+     */
+    @Bean
+    @ConditionalOnProperty(name = "management.endpoint.executors.resizable-queue.enabled", havingValue = "true")
+    public static ResizableQueueBeanPostProcessor resizableQueueBeanPostProcessor() {
+        return new ResizableQueueBeanPostProcessor();
+    }
+
+    /**
+     * @return
+     */
+    @Bean
+    @ConditionalOnProperty(name = "management.endpoint.executors.priority-queue.enabled", havingValue = "true")
+    public static PriorityQueueBeanPostProcessor priorityQueueBeanPostProcessor() {
+        return new PriorityQueueBeanPostProcessor();
+    }
+
 }
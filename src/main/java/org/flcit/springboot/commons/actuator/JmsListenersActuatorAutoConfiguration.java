@@ -21,9 +21,11 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
 import org.springframework.jms.config.JmsListenerEndpointRegistry;
 
 import org.flcit.springboot.commons.actuator.endpoint.JmsListenersEndpoint;
+import org.flcit.springboot.commons.actuator.util.CoalescingSnapshot;
 
 /**
  * 
@@ -37,12 +39,13 @@ public class JmsListenersActuatorAutoConfiguration {
 
     /**
      * @param registry
+     * @param environment
      * @return
      */
     @Bean
     @ConditionalOnMissingBean
-    public JmsListenersEndpoint jmsListenersEndpoint(JmsListenerEndpointRegistry registry) {
-        return new JmsListenersEndpoint(registry);
+    public JmsListenersEndpoint jmsListenersEndpoint(JmsListenerEndpointRegistry registry, Environment environment) {
+        return new JmsListenersEndpoint(registry, CoalescingSnapshot.getMaxAge(environment, "jmslisteners"));
     }
 
 }
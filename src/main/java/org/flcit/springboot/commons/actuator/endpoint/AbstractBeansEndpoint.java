@@ -20,11 +20,15 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.util.ObjectUtils;
 
+import org.flcit.springboot.commons.actuator.util.CoalescingSnapshot;
+
 /**
  * @param <T>
  * @param <R>
@@ -34,13 +38,22 @@ import org.springframework.util.ObjectUtils;
 abstract class AbstractBeansEndpoint<T, R> {
 
     private final ConfigurableApplicationContext context;
+    private final CoalescingSnapshot<Map<String, R>> snapshot;
 
     AbstractBeansEndpoint(ConfigurableApplicationContext context) {
         this.context = context;
+        final Endpoint endpoint = AnnotationUtils.findAnnotation(getClass(), Endpoint.class);
+        this.snapshot = endpoint != null
+                ? CoalescingSnapshot.of(context.getEnvironment(), endpoint.id(), this::convertAll)
+                : new CoalescingSnapshot<>(this::convertAll, null);
     }
 
     abstract R convert(String name, T value);
 
+    ConfigurableApplicationContext getContext() {
+        return context;
+    }
+
     @SuppressWarnings("unchecked")
     private Class<T> getBeanClass() {
         final Class<T>[] clazzes = (Class<T>[]) GenericTypeResolver.resolveTypeArguments(getClass(), AbstractBeansEndpoint.class);
@@ -67,6 +80,18 @@ abstract class AbstractBeansEndpoint<T, R> {
     }
 
     Map<String, R> list() {
+        return list(null);
+    }
+
+    Map<String, R> list(Boolean fresh) {
+        return Boolean.TRUE.equals(fresh) ? snapshot.refresh() : snapshot.get();
+    }
+
+    void invalidate() {
+        snapshot.invalidate();
+    }
+
+    private Map<String, R> convertAll() {
         final Map<String, T> beans = listBeans();
         Map<String, R> beansConvert = new HashMap<>(beans.size());
         for (Entry<String, T> bean : beans.entrySet()) {
@@ -78,8 +78,12 @@ public class ClientHttpRequestInterceptorsEndpoint extends AbstractBeansEndpoint
      */
     @WriteOperation
     public void action(@Selector ClientHttpRequestInterceptorAction action) {
-        for (Entry<String, ClientHttpRequestInterceptor> entry: listBeans().entrySet()) {
-            action(entry.getValue(), action);
+        try {
+            for (Entry<String, ClientHttpRequestInterceptor> entry: listBeans().entrySet()) {
+                action(entry.getValue(), action);
+            }
+        } finally {
+            invalidate();
         }
     }
 
@@ -89,7 +93,11 @@ public class ClientHttpRequestInterceptorsEndpoint extends AbstractBeansEndpoint
      */
     @WriteOperation
     public void action(@Selector String name, @Selector ClientHttpRequestInterceptorAction action) {
-        action(getBean(name), action);
+        try {
+            action(getBean(name), action);
+        } finally {
+            invalidate();
+        }
     }
 
     private void action(final ClientHttpRequestInterceptor interceptor, final ClientHttpRequestInterceptorAction action) {
@@ -143,24 +151,28 @@ public class ClientHttpRequestInterceptorsEndpoint extends AbstractBeansEndpoint
             @Nullable String cookieName,
             @Nullable String[] cookiesNames,
             @Nullable String[] cookiesNamesInHeader) throws Exception {
-        final ClientHttpRequestInterceptor interceptor = getBean(name);
-        BeanUtils.copyNonNullProperties(
-                new BaseClientHttpRequestInterceptorUpdate()
-                .setService(service)
-                .setUrl(url)
-                .setUsername(username)
-                .setPassword(password)
-                .setClientId(clientId)
-                .setClientSecret(clientSecret)
-                .setGrantType(grantType)
-                .setScope(scope)
-                .setCookieName(cookieName)
-                .setCookiesNames(cookiesNamesInHeader)
-                .setCookiesNamesInHeader(cookiesNamesInHeader),
-                interceptor);
-        CommonsActuatorUtils.setFieldEnum(interceptor, "grantType", grantType);
-        BeanUtils.initializing(interceptor);
-        refresh(interceptor);
+        try {
+            final ClientHttpRequestInterceptor interceptor = getBean(name);
+            BeanUtils.copyNonNullProperties(
+                    new BaseClientHttpRequestInterceptorUpdate()
+                    .setService(service)
+                    .setUrl(url)
+                    .setUsername(username)
+                    .setPassword(password)
+                    .setClientId(clientId)
+                    .setClientSecret(clientSecret)
+                    .setGrantType(grantType)
+                    .setScope(scope)
+                    .setCookieName(cookieName)
+                    .setCookiesNames(cookiesNamesInHeader)
+                    .setCookiesNamesInHeader(cookiesNamesInHeader),
+                    interceptor);
+            CommonsActuatorUtils.setFieldEnum(interceptor, "grantType", grantType);
+            BeanUtils.initializing(interceptor);
+            refresh(interceptor);
+        } finally {
+            invalidate();
+        }
     }
 
 }
@@ -16,30 +16,80 @@
 
 package org.flcit.springboot.commons.actuator.endpoint;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
 import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.util.PatternMatchUtils;
+import org.springframework.util.StringUtils;
 
 import org.flcit.springboot.commons.actuator.executor.BaseExecutor;
+import org.flcit.springboot.commons.actuator.executor.ExecutorView;
+import org.flcit.springboot.commons.actuator.executor.TaskTypeDTO;
+import org.flcit.springboot.commons.actuator.executor.drain.ExecutorDrain;
+import org.flcit.springboot.commons.actuator.executor.history.ExecutorHistoryDTO;
+import org.flcit.springboot.commons.actuator.executor.history.ExecutorHistorySampler;
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.executor.queue.PriorityTaskQueue;
+import org.flcit.springboot.commons.actuator.executor.queue.QueueInspector;
+import org.flcit.springboot.commons.actuator.executor.queue.QueueSpillOver;
+import org.flcit.springboot.commons.actuator.executor.queue.QueueTransfer;
+import org.flcit.springboot.commons.actuator.executor.queue.ResizableBlockingQueue;
+import org.flcit.springboot.commons.actuator.executor.rejection.CountingRejectedExecutionHandler;
+import org.flcit.springboot.commons.actuator.executor.rejection.RejectionPolicy;
+import org.flcit.springboot.commons.actuator.executor.scheduled.ScheduledTasks;
+import org.flcit.springboot.commons.actuator.executor.simulation.CapacitySimulator;
+import org.flcit.springboot.commons.actuator.executor.simulation.SimulationDTO;
+import org.flcit.springboot.commons.actuator.executor.slow.SlowTaskWatchdog;
+import org.flcit.springboot.commons.actuator.executor.striped.StripedExecutor;
+import org.flcit.springboot.commons.actuator.executor.thread.ExecutorCpuSampler;
+import org.flcit.springboot.commons.actuator.executor.thread.ExecutorProfiler;
+import org.flcit.springboot.commons.actuator.executor.thread.ExecutorStackSampler;
+import org.flcit.springboot.commons.actuator.executor.thread.ExecutorThreads;
+import org.flcit.springboot.commons.actuator.executor.tuning.AutoTuner;
+import org.flcit.springboot.commons.actuator.executor.update.BulkResultDTO;
 import org.flcit.springboot.commons.actuator.executor.update.ConfigurationExecutorUpdate;
 import org.flcit.springboot.commons.actuator.executor.update.ExecutorAction;
 import org.flcit.springboot.commons.actuator.executor.update.ThreadPoolExecutorUpdate;
+import org.flcit.springboot.commons.actuator.executor.virtual.VirtualThreadFactory;
+import org.flcit.springboot.commons.actuator.executor.virtual.VirtualThreadPinnedMonitor;
+import org.flcit.springboot.commons.actuator.executor.virtual.VirtualThreads;
+import org.flcit.springboot.commons.actuator.executor.warmup.ExecutorWarmUp;
+import org.flcit.springboot.commons.actuator.executor.warmup.ExecutorWarmUpTask;
+import org.flcit.springboot.commons.actuator.executor.warmup.WarmUpState;
 import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
 import org.flcit.springboot.commons.core.util.BeanUtils;
+import org.flcit.commons.core.util.ObjectUtils;
 import org.flcit.commons.core.util.ReflectionUtils;
 
 /**
@@ -48,7 +98,45 @@ import org.flcit.commons.core.util.ReflectionUtils;
  * @author Florian Lestic
  */
 @Endpoint(id = "executors")
-public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecutor> {
+public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecutor> implements SmartInitializingSingleton, DisposableBean {
+
+    private static final String COMMON_POOL = "commonPool";
+    private static final String PROPERTY_HISTORY_PREFIX = "management.endpoint.executors.history.";
+    private static final String PROPERTY_WARM_UP_ITERATIONS = "management.endpoint.executors.warm-up.iterations";
+    private static final String PROPERTY_SLOW_THRESHOLD = "management.endpoint.executors.slow.threshold";
+    private static final long DEFAULT_AUTO_TUNE_INTERVAL_MILLIS = 5000;
+    private static final int DEFAULT_AUTO_TUNE_MIN_POOL_SIZE = 1;
+    private static final int DEFAULT_AUTO_TUNE_MAX_POOL_SIZE_PER_PROCESSOR = 4;
+    private static final Duration DEFAULT_HISTORY_INTERVAL = Duration.ofSeconds(5);
+    private static final int DEFAULT_HISTORY_SIZE = 720;
+    private static final int DEFAULT_HISTORY_POINTS = 60;
+    private static final long DEFAULT_PROFILE_DURATION_MILLIS = 10000;
+    private static final long MAX_PROFILE_DURATION_MILLIS = 300000;
+    private static final long MIN_PROFILE_INTERVAL_MILLIS = 10;
+    private static final long DEFAULT_PROFILE_INTERVAL_MILLIS = 50;
+    private static final int MAX_PROFILE_DEPTH = 64;
+    private static final long DEFAULT_REJECTION_TIMEOUT_MILLIS = 1000;
+    private static final long DEFAULT_DRAIN_TIMEOUT_MILLIS = 30000;
+    private static final int DEFAULT_MOVE_MAX_TASKS = 100;
+    private static final double DEFAULT_SPILL_OVER_THRESHOLD = 0.8d;
+    private static final long DEFAULT_SPILL_OVER_INTERVAL_MILLIS = 200;
+    private static final int MAX_BULK_THREADS = 4;
+    private static final Duration DEFAULT_SLOW_THRESHOLD = Duration.ofSeconds(30);
+    private static final long DEFAULT_SLOW_INTERVAL_MILLIS = 1000;
+    private static final long DEFAULT_WARM_UP_TIMEOUT_MILLIS = 30000;
+    private static final int DEFAULT_QUEUE_LIMIT = 100;
+
+    private final Map<String, AutoTuner> autoTuners = new ConcurrentHashMap<>();
+    private final Map<String, ExecutorCpuSampler> cpuSamplers = new ConcurrentHashMap<>();
+    private final Map<String, ExecutorDrain> drains = new ConcurrentHashMap<>();
+    private final Map<String, ExecutorProfiler> profilers = new ConcurrentHashMap<>();
+    private final Map<String, QueueSpillOver> spillOvers = new ConcurrentHashMap<>();
+    private final Map<String, SlowTaskWatchdog> watchdogs = new ConcurrentHashMap<>();
+    private final Map<String, ExecutorWarmUp> warmUps = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private ScheduledExecutorService profileScheduler;
+    private VirtualThreadPinnedMonitor pinnedMonitor;
+    private ExecutorHistorySampler historySampler;
 
     /**
      * @param context
@@ -61,11 +149,100 @@ public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecu
      *
      */
     @Override
-    @ReadOperation
+    public void afterSingletonsInstantiated() {
+        final Environment environment = getContext().getEnvironment();
+        if (Boolean.TRUE.equals(environment.getProperty(PROPERTY_HISTORY_PREFIX + "enabled", Boolean.class))) {
+            final Duration interval = getDurationProperty(PROPERTY_HISTORY_PREFIX + "interval", DEFAULT_HISTORY_INTERVAL);
+            historySampler = new ExecutorHistorySampler(this::listBeans,
+                    environment.getProperty(PROPERTY_HISTORY_PREFIX + "size", Integer.class, DEFAULT_HISTORY_SIZE),
+                    interval.toMillis());
+            getScheduler().scheduleAtFixedRate(historySampler, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public synchronized void destroy() {
+        for (AutoTuner autoTuner : autoTuners.values()) {
+            autoTuner.stop();
+        }
+        for (ExecutorDrain drain : drains.values()) {
+            drain.stop();
+        }
+        for (QueueSpillOver spillOver : spillOvers.values()) {
+            spillOver.stop();
+        }
+        for (SlowTaskWatchdog watchdog : watchdogs.values()) {
+            watchdog.stop();
+        }
+        for (ExecutorWarmUp warmUp : warmUps.values()) {
+            warmUp.stop();
+        }
+        for (ExecutorProfiler profiler : profilers.values()) {
+            profiler.stop();
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        if (profileScheduler != null) {
+            profileScheduler.shutdownNow();
+            profileScheduler = null;
+        }
+        if (pinnedMonitor != null) {
+            pinnedMonitor.close();
+            pinnedMonitor = null;
+        }
+    }
+
+    private synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(newThreadFactory("executors-endpoint-"));
+        }
+        return scheduler;
+    }
+
+    // stack sampling kept off the thread of the controllers
+    private synchronized ScheduledExecutorService getProfileScheduler() {
+        if (profileScheduler == null) {
+            profileScheduler = Executors.newSingleThreadScheduledExecutor(newThreadFactory("executors-endpoint-profile-"));
+        }
+        return profileScheduler;
+    }
+
+    private static final CustomizableThreadFactory newThreadFactory(final String threadNamePrefix) {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private synchronized VirtualThreadPinnedMonitor getPinnedMonitor() {
+        if (pinnedMonitor == null) {
+            pinnedMonitor = new VirtualThreadPinnedMonitor();
+        }
+        return pinnedMonitor;
+    }
+
+    /**
+     *
+     */
+    @Override
     public Map<String, BaseExecutor> list() {
         return super.list();
     }
 
+    /**
+     * @param fresh true to bypass the snapshot
+     * @return
+     */
+    @Override
+    @ReadOperation
+    public Map<String, BaseExecutor> list(@Nullable Boolean fresh) {
+        return super.list(fresh);
+    }
+
     /**
      *
      */
@@ -80,13 +257,130 @@ public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecu
         return CommonsActuatorUtils.convert(name, value);
     }
 
+    /**
+     * @return executors listed by the endpoint, by name
+     */
+    public Map<String, Executor> getExecutors() {
+        return listBeans();
+    }
+
+    @Override
+    Map<String, Executor> listBeans() {
+        final Map<String, Executor> beans = new LinkedHashMap<>(super.listBeans());
+        beans.putIfAbsent(COMMON_POOL, ForkJoinPool.commonPool());
+        return beans;
+    }
+
+    @Override
+    Executor getBean(String name) {
+        return COMMON_POOL.equals(name) && !getContext().containsBean(name) ? ForkJoinPool.commonPool() : super.getBean(name);
+    }
+
+    /**
+     * @param name
+     * @param view
+     * @param window
+     * @param points
+     * @param corePoolSize
+     * @param maxPoolSize
+     * @param queueCapacity
+     * @param offset
+     * @param limit
+     * @return
+     */
+    @SuppressWarnings("java:S107")
+    @ReadOperation
+    public Object view(@Selector String name, @Selector ExecutorView view,
+            @Nullable String window,
+            @Nullable Integer points,
+            @Nullable Integer corePoolSize,
+            @Nullable Integer maxPoolSize,
+            @Nullable Integer queueCapacity,
+            @Nullable Integer offset,
+            @Nullable Integer limit) {
+        if (view == ExecutorView.autoTune) {
+            final AutoTuner autoTuner = autoTuners.get(name);
+            return autoTuner != null ? autoTuner.toDTO() : null;
+        } else if (view == ExecutorView.history) {
+            return history(name, window, points);
+        } else if (view == ExecutorView.cpu) {
+            final long[] threadIds = ExecutorThreads.getThreadIds(getBean(name));
+            return cpuSamplers.computeIfAbsent(name, k -> new ExecutorCpuSampler())
+                    .sample(threadIds);
+        } else if (view == ExecutorView.threads) {
+            return ExecutorStackSampler.dump(ExecutorThreads.getThreadIds(getBean(name)), Integer.MAX_VALUE);
+        } else if (view == ExecutorView.profile) {
+            final ExecutorProfiler profiler = profilers.get(name);
+            return profiler != null ? profiler.toDTO() : null;
+        } else if (view == ExecutorView.scheduledTasks) {
+            final Executor executor = getBean(name);
+            return CommonsActuatorUtils.getThreadPoolExecutor(executor) instanceof ScheduledThreadPoolExecutor scheduledThreadPoolExecutor
+                    ? ScheduledTasks.list(scheduledThreadPoolExecutor, CommonsActuatorUtils.getInstrumentation(executor),
+                            ObjectUtils.getOrDefault(offset, 0), ObjectUtils.getOrDefault(limit, DEFAULT_QUEUE_LIMIT))
+                    : null;
+        } else if (view == ExecutorView.drain) {
+            final ExecutorDrain drain = drains.get(name);
+            return drain != null ? drain.toDTO() : null;
+        } else if (view == ExecutorView.spillOver) {
+            final QueueSpillOver spillOver = spillOvers.get(name);
+            return spillOver != null ? spillOver.toDTO() : null;
+        } else if (view == ExecutorView.slow) {
+            final SlowTaskWatchdog watchdog = watchdogs.get(name);
+            return watchdog != null ? watchdog.toDTO() : null;
+        } else if (view == ExecutorView.taskTypes) {
+            final InstrumentedTaskDecorator instrumentation = CommonsActuatorUtils.getInstrumentation(getBean(name));
+            return instrumentation != null ? TaskTypeDTO.of(instrumentation.getTaskTypes()) : null;
+        } else if (view == ExecutorView.simulate) {
+            return simulate(getBean(name), corePoolSize, maxPoolSize, queueCapacity);
+        } else if (view == ExecutorView.warmUp) {
+            final ExecutorWarmUp warmUp = warmUps.get(name);
+            return warmUp != null ? warmUp.toDTO() : null;
+        } else if (view == ExecutorView.queue) {
+            final ThreadPoolExecutor tpe = CommonsActuatorUtils.getThreadPoolExecutor(getBean(name));
+            return tpe != null
+                    ? QueueInspector.inspect(tpe.getQueue(), ObjectUtils.getOrDefault(offset, 0), ObjectUtils.getOrDefault(limit, DEFAULT_QUEUE_LIMIT))
+                    : null;
+        }
+        return null;
+    }
+
+    private static final SimulationDTO simulate(final Executor executor, final Integer corePoolSize, final Integer maxPoolSize, final Integer queueCapacity) {
+        final ThreadPoolExecutor tpe = CommonsActuatorUtils.getThreadPoolExecutor(executor);
+        final InstrumentedTaskDecorator instrumentation = CommonsActuatorUtils.getInstrumentation(executor);
+        if (tpe == null || instrumentation == null) {
+            return null;
+        }
+        return CapacitySimulator.simulate(instrumentation,
+                ObjectUtils.getOrDefault(corePoolSize, tpe.getCorePoolSize()),
+                ObjectUtils.getOrDefault(maxPoolSize, tpe.getMaximumPoolSize()),
+                ObjectUtils.getOrDefault(queueCapacity, () -> tpe.getQueue().size() + tpe.getQueue().remainingCapacity()));
+    }
+
+    private ExecutorHistoryDTO history(final String name, final String window, final Integer points) {
+        if (historySampler == null) {
+            return null;
+        }
+        return historySampler.getHistory(name,
+                window != null ? DurationStyle.detectAndParse(window).toMillis() : Long.MAX_VALUE / 2,
+                ObjectUtils.getOrDefault(points, DEFAULT_HISTORY_POINTS));
+    }
+
     /**
      * @param action
      */
     @WriteOperation
     public void action(@Selector ExecutorAction action) {
-        for (Entry<String, ExecutorConfigurationSupport> entry: listBeans(ExecutorConfigurationSupport.class).entrySet()) {
-            action(entry.getValue(), action);
+        try {
+            for (Entry<String, Executor> entry: listBeans().entrySet()) {
+                // the slow task watchdog and the workload only apply to the instrumented executors
+                if (entry.getValue() instanceof ExecutorConfigurationSupport
+                        && (action != ExecutorAction.watchSlow && action != ExecutorAction.resetWorkload
+                                || CommonsActuatorUtils.getInstrumentation(entry.getValue()) != null)) {
+                    action(entry.getKey(), entry.getValue(), action, null, null, null, null, null, null, null, null);
+                }
+            }
+        } finally {
+            invalidate();
         }
     }
 
@@ -94,43 +388,266 @@ public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecu
      * @param name
      * @param action
      */
+    public void action(String name, ExecutorAction action) {
+        action(name, action, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * @param name
+     * @param action
+     * @param minPoolSize
+     * @param maxPoolSize
+     * @param intervalMillis
+     * @param timeoutMillis
+     * @param target
+     * @param maxTasks
+     * @param threshold
+     * @param interrupt
+     */
+    @SuppressWarnings("java:S107")
     @WriteOperation
-    public void action(@Selector String name, @Selector ExecutorAction action) {
-        action(getBean(name, ExecutorConfigurationSupport.class), action);
+    public void action(@Selector String name, @Selector ExecutorAction action,
+            @Nullable Integer minPoolSize,
+            @Nullable Integer maxPoolSize,
+            @Nullable Long intervalMillis,
+            @Nullable Long timeoutMillis,
+            @Nullable String target,
+            @Nullable Integer maxTasks,
+            @Nullable Double threshold,
+            @Nullable Boolean interrupt) {
+        try {
+            action(name, getBean(name), action, minPoolSize, maxPoolSize, intervalMillis, timeoutMillis, target, maxTasks, threshold, interrupt);
+        } finally {
+            invalidate();
+        }
     }
 
-    private void action(final ExecutorConfigurationSupport executorConfiguration, final ExecutorAction action) {
-        final ThreadPoolExecutor tpe = getThreadPoolExecutor(executorConfiguration);
+    @SuppressWarnings("java:S107")
+    private void action(final String name, final Executor executor, final ExecutorAction action,
+            final Integer minPoolSize, final Integer maxPoolSize, final Long intervalMillis, final Long timeoutMillis,
+            final String target, final Integer maxTasks, final Double threshold, final Boolean interrupt) {
+        if (action == ExecutorAction.autoTune) {
+            autoTune(name, executor, minPoolSize, maxPoolSize, intervalMillis);
+            return;
+        } else if (action == ExecutorAction.stopAutoTune) {
+            stopAutoTune(name);
+            return;
+        } else if (action == ExecutorAction.spillOver) {
+            spillOver(name, executor, target, threshold, intervalMillis);
+            return;
+        } else if (action == ExecutorAction.stopSpillOver) {
+            stopSpillOver(name);
+            return;
+        } else if (action == ExecutorAction.watchSlow) {
+            watchSlow(name, executor, intervalMillis, interrupt);
+            return;
+        } else if (action == ExecutorAction.stopWatchSlow) {
+            stopWatchSlow(name);
+            return;
+        } else if (action == ExecutorAction.profile) {
+            profile(name, executor, intervalMillis, timeoutMillis);
+            return;
+        } else if (action == ExecutorAction.stopProfile) {
+            stopProfile(name);
+            return;
+        } else if (action == ExecutorAction.resetWorkload) {
+            resetWorkload(executor);
+            return;
+        }
+        final ThreadPoolExecutor tpe = CommonsActuatorUtils.getThreadPoolExecutor(executor);
         if (tpe == null) {
+            if (CommonsActuatorUtils.unwrap(executor) instanceof ExecutorService executorService) {
+                action(executorService, action);
+            }
             return;
         }
         if (action == ExecutorAction.purge) {
             purge(tpe);
         } else if (action == ExecutorAction.clear) {
             clear(tpe);
-        } else if (action == ExecutorAction.start) {
-            start(tpe, executorConfiguration);
+        } else if (action == ExecutorAction.start && executor instanceof ExecutorConfigurationSupport executorConfiguration) {
+            if (start(tpe, executorConfiguration)) {
+                poolRecreated(name);
+            }
         } else if (action == ExecutorAction.shutdown) {
             shutdown(tpe);
         } else if (action == ExecutorAction.shutdownNow) {
             shutdownNow(tpe);
+        } else if (action == ExecutorAction.drain) {
+            drain(name, tpe, target, ObjectUtils.getOrDefault(timeoutMillis, DEFAULT_DRAIN_TIMEOUT_MILLIS));
+        } else if (action == ExecutorAction.moveQueued) {
+            moveQueued(tpe, target, ObjectUtils.getOrDefault(maxTasks, DEFAULT_MOVE_MAX_TASKS));
+        } else if (action == ExecutorAction.warmUp) {
+            warmUp(name, tpe, ObjectUtils.getOrDefault(timeoutMillis, DEFAULT_WARM_UP_TIMEOUT_MILLIS));
         }
     }
 
-    private static final ThreadPoolExecutor getThreadPoolExecutor(final Executor executor) {
-        if (executor instanceof ExecutorConfigurationSupport executorConfigurationSupport) {
-            return getThreadPoolExecutor(executorConfigurationSupport);
+    private void moveQueued(final ThreadPoolExecutor executor, final String target, final int maxTasks) {
+        Assert.hasLength(target, "Target must not be empty");
+        final Executor targetBean = getBean(target);
+        final ThreadPoolExecutor targetExecutor = CommonsActuatorUtils.getThreadPoolExecutor(targetBean);
+        QueueTransfer.assertCompatible(executor, targetExecutor);
+        QueueTransfer.transfer(executor, targetExecutor, CommonsActuatorUtils.getInstrumentation(targetBean), maxTasks);
+    }
+
+    private void spillOver(final String name, final Executor executor, final String target, final Double threshold, final Long intervalMillis) {
+        Assert.hasLength(target, "Target must not be empty");
+        final Executor targetExecutor = getBean(target);
+        final QueueSpillOver spillOver = new QueueSpillOver(() -> getSafeThreadPoolExecutor(executor), () -> getSafeThreadPoolExecutor(targetExecutor),
+                () -> CommonsActuatorUtils.getInstrumentation(targetExecutor), target,
+                ObjectUtils.getOrDefault(threshold, DEFAULT_SPILL_OVER_THRESHOLD),
+                ObjectUtils.getOrDefault(intervalMillis, DEFAULT_SPILL_OVER_INTERVAL_MILLIS));
+        final QueueSpillOver previous = spillOvers.put(name, spillOver);
+        if (previous != null) {
+            previous.stop();
         }
-        return null;
+        spillOver.start(getScheduler());
     }
 
-    private static final ThreadPoolExecutor getThreadPoolExecutor(final ExecutorConfigurationSupport executorConfiguration) {
-        if (executorConfiguration instanceof ThreadPoolTaskScheduler threadPoolTaskScheduler) {
-            return threadPoolTaskScheduler.getScheduledThreadPoolExecutor();
-        } else if (executorConfiguration instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
-            return threadPoolTaskExecutor.getThreadPoolExecutor();
+    private void stopSpillOver(final String name) {
+        final QueueSpillOver spillOver = spillOvers.get(name);
+        if (spillOver != null) {
+            spillOver.stop();
+        }
+    }
+
+    private void watchSlow(final String name, final Executor executor, final Long intervalMillis, final Boolean interrupt) {
+        final InstrumentedTaskDecorator instrumentation = CommonsActuatorUtils.getInstrumentation(executor);
+        if (instrumentation == null) {
+            throw new UnsupportedOperationException("Executor is not instrumented, see management.endpoint.executors.instrumentation.enabled");
+        }
+        // threshold of the executor, else of all the executors
+        final SlowTaskWatchdog watchdog = new SlowTaskWatchdog(instrumentation,
+                getDurationProperty(PROPERTY_SLOW_THRESHOLD + '.' + name, getDurationProperty(PROPERTY_SLOW_THRESHOLD, DEFAULT_SLOW_THRESHOLD)).toMillis(),
+                ObjectUtils.getOrDefault(intervalMillis, DEFAULT_SLOW_INTERVAL_MILLIS),
+                Boolean.TRUE.equals(interrupt));
+        final SlowTaskWatchdog previous = watchdogs.put(name, watchdog);
+        if (previous != null) {
+            previous.stop();
+        }
+        watchdog.start(getScheduler());
+    }
+
+    private static final void resetWorkload(final Executor executor) {
+        final InstrumentedTaskDecorator instrumentation = CommonsActuatorUtils.getInstrumentation(executor);
+        if (instrumentation == null) {
+            throw new UnsupportedOperationException("Executor is not instrumented, see management.endpoint.executors.instrumentation.enabled");
+        }
+        instrumentation.resetWorkload();
+    }
+
+    private Duration getDurationProperty(final String name, final Duration defaultValue) {
+        final String value = getContext().getEnvironment().getProperty(name);
+        return StringUtils.hasText(value) ? DurationStyle.detectAndParse(value) : defaultValue;
+    }
+
+    private void stopWatchSlow(final String name) {
+        final SlowTaskWatchdog watchdog = watchdogs.get(name);
+        if (watchdog != null) {
+            watchdog.stop();
+        }
+    }
+
+    private void profile(final String name, final Executor executor, final Long intervalMillis, final Long durationMillis) {
+        final ScheduledExecutorService profileScheduler = getProfileScheduler();
+        // one profile per executor: a running profile is kept, not restarted
+        profilers.compute(name, (key, previous) -> {
+            if (previous != null && previous.isRunning()) {
+                return previous;
+            }
+            final ExecutorProfiler profiler = new ExecutorProfiler(() -> ExecutorThreads.getThreadIds(executor),
+                    Math.max(MIN_PROFILE_INTERVAL_MILLIS, ObjectUtils.getOrDefault(intervalMillis, DEFAULT_PROFILE_INTERVAL_MILLIS)),
+                    Math.min(MAX_PROFILE_DURATION_MILLIS, ObjectUtils.getOrDefault(durationMillis, DEFAULT_PROFILE_DURATION_MILLIS)),
+                    MAX_PROFILE_DEPTH);
+            profiler.start(profileScheduler);
+            return profiler;
+        });
+    }
+
+    private void stopProfile(final String name) {
+        final ExecutorProfiler profiler = profilers.get(name);
+        if (profiler != null) {
+            profiler.stop();
+        }
+    }
+
+    private static final ThreadPoolExecutor getSafeThreadPoolExecutor(final Executor executor) {
+        try {
+            return CommonsActuatorUtils.getThreadPoolExecutor(executor);
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private void warmUp(final String name, final ThreadPoolExecutor tpe, final long timeoutMillis) {
+        final List<ExecutorWarmUpTask> tasks = getContext().getBeanProvider(ExecutorWarmUpTask.class).orderedStream().toList();
+        // registered warm-up tasks are run once by default, the no-op task only on demand
+        final ExecutorWarmUp warmUp = new ExecutorWarmUp(name, tpe, tasks,
+                getContext().getEnvironment().getProperty(PROPERTY_WARM_UP_ITERATIONS, Integer.class, tasks.isEmpty() ? 0 : 1), timeoutMillis);
+        final ExecutorWarmUp previous = warmUps.put(name, warmUp);
+        if (previous != null) {
+            previous.stop();
+        }
+        warmUp.start(getScheduler());
+    }
+
+    /**
+     * @param name
+     * @return null if the executor has never been warmed up
+     */
+    public WarmUpState getWarmUpState(String name) {
+        final ExecutorWarmUp warmUp = warmUps.get(name);
+        return warmUp != null ? warmUp.getState() : null;
+    }
+
+    private void drain(final String name, final ThreadPoolExecutor executor, final String target, final long timeoutMillis) {
+        if (!canShutdown(executor)) {
+            return;
+        }
+        Assert.isTrue(!name.equals(target), "Target must not be the drained executor");
+        final ExecutorDrain drain = new ExecutorDrain(executor, StringUtils.hasLength(target) ? getBean(target) : null, target, timeoutMillis);
+        final ExecutorDrain previous = drains.put(name, drain);
+        if (previous != null) {
+            previous.stop();
+        }
+        drain.start(getScheduler());
+    }
+
+    private static final void action(final ExecutorService executor, final ExecutorAction action) {
+        if (action == ExecutorAction.shutdown) {
+            executor.shutdown();
+        } else if (action == ExecutorAction.shutdownNow) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void autoTune(final String name, final Executor executor,
+            final Integer minPoolSize, final Integer maxPoolSize, final Long intervalMillis) {
+        if (!(executor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor)) {
+            return;
+        }
+        final AutoTuner autoTuner = new AutoTuner(threadPoolTaskExecutor,
+                ObjectUtils.getOrDefault(minPoolSize, DEFAULT_AUTO_TUNE_MIN_POOL_SIZE),
+                ObjectUtils.getOrDefault(maxPoolSize, () -> getDefaultAutoTuneMaxPoolSize(threadPoolTaskExecutor)),
+                ObjectUtils.getOrDefault(intervalMillis, DEFAULT_AUTO_TUNE_INTERVAL_MILLIS));
+        final AutoTuner previous = autoTuners.put(name, autoTuner);
+        if (previous != null) {
+            previous.stop();
+        }
+        autoTuner.start(getScheduler());
+    }
+
+    private static final int getDefaultAutoTuneMaxPoolSize(final ThreadPoolTaskExecutor executor) {
+        return executor.getMaxPoolSize() == Integer.MAX_VALUE
+                ? Math.max(executor.getCorePoolSize(), Runtime.getRuntime().availableProcessors() * DEFAULT_AUTO_TUNE_MAX_POOL_SIZE_PER_PROCESSOR)
+                : executor.getMaxPoolSize();
+    }
+
+    private void stopAutoTune(final String name) {
+        final AutoTuner autoTuner = autoTuners.get(name);
+        if (autoTuner != null) {
+            autoTuner.stop();
         }
-        return null;
     }
 
     private static final void purge(final ThreadPoolExecutor executor) {
@@ -141,9 +658,23 @@ public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecu
         executor.getQueue().clear();
     }
 
-    private static final void start(final ThreadPoolExecutor executor, final ExecutorConfigurationSupport executorConfiguration) {
+    private static final boolean start(final ThreadPoolExecutor executor, final ExecutorConfigurationSupport executorConfiguration) {
         if (canStart(executor)) {
             executorConfiguration.initialize();
+            return true;
+        }
+        return false;
+    }
+
+    private void poolRecreated(final String name) {
+        // the drain and the warm-up hold the previous pool, the other controllers resolve the pool on each run
+        final ExecutorDrain drain = drains.get(name);
+        if (drain != null) {
+            drain.stop();
+        }
+        final ExecutorWarmUp warmUp = warmUps.get(name);
+        if (warmUp != null) {
+            warmUp.stop();
         }
     }
 
@@ -173,6 +704,151 @@ public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecu
         return !canShutdown(executor);
     }
 
+    /**
+     * @param names glob of the executor names, comma separated, names or type required
+     * @param type simple or qualified name of the executor class, of one of its super classes or of one of its interfaces
+     * @param action
+     * @param threadPriority
+     * @param threadNamePrefix
+     * @param daemon
+     * @param waitForTasksToCompleteOnShutdown
+     * @param awaitTerminationMillis
+     * @param defaultTimeout
+     * @param timeout
+     * @param beanName
+     * @param concurrencyLimit
+     * @param throttleActive
+     * @param poolSize
+     * @param corePoolSize
+     * @param keepAliveSeconds
+     * @param maxPoolSize
+     * @param queueCapacity
+     * @param allowsCoreThreadTimeOut
+     * @param removeOnCancelPolicy
+     * @param continueExistingPeriodicTasksAfterShutdownPolicy
+     * @param executeExistingDelayedTasksAfterShutdownPolicy
+     * @param rejectionPolicy
+     * @param rejectionTimeoutMillis
+     * @param parallelism
+     * @param virtualThreads
+     * @param priorityQueue order the tasks of a priority queue by priority, or by submission time
+     * @param priorityAgingMillis waiting time compensating one priority level
+     * @param stripes number of stripes of a {@link StripedExecutor}
+     * @return result by executor
+     */
+    @SuppressWarnings("java:S107")
+    @WriteOperation
+    public Map<String, BulkResultDTO> bulk(@Nullable String names,
+            @Nullable String type,
+            @Nullable ExecutorAction action,
+            @Nullable Integer threadPriority,
+            @Nullable String threadNamePrefix,
+            @Nullable Boolean daemon,
+            @Nullable Boolean waitForTasksToCompleteOnShutdown,
+            @Nullable Long awaitTerminationMillis,
+            @Nullable Long defaultTimeout,
+            @Nullable Long timeout,
+            @Nullable String beanName,
+            @Nullable Integer concurrencyLimit,
+            @Nullable Boolean throttleActive,
+            @Nullable Integer poolSize,
+            @Nullable Integer corePoolSize,
+            @Nullable Integer keepAliveSeconds,
+            @Nullable Integer maxPoolSize,
+            @Nullable Integer queueCapacity,
+            @Nullable Boolean allowsCoreThreadTimeOut,
+            @Nullable Boolean removeOnCancelPolicy,
+            @Nullable Boolean continueExistingPeriodicTasksAfterShutdownPolicy,
+            @Nullable Boolean executeExistingDelayedTasksAfterShutdownPolicy,
+            @Nullable RejectionPolicy rejectionPolicy,
+            @Nullable Long rejectionTimeoutMillis,
+            @Nullable Integer parallelism,
+            @Nullable Boolean virtualThreads,
+            @Nullable Boolean priorityQueue,
+            @Nullable Long priorityAgingMillis,
+            @Nullable Integer stripes) {
+        Assert.isTrue(StringUtils.hasText(names) || StringUtils.hasText(type), "Names or type must not be empty");
+        final Map<String, Executor> executors = select(names, type);
+        final Map<String, BulkResultDTO> results = new TreeMap<>();
+        if (executors.isEmpty()) {
+            return results;
+        }
+        // dedicated and bounded: updates may block (shutdown, pool recreation) and must not hold the common pool
+        final ExecutorService bulkExecutor = Executors.newFixedThreadPool(Math.min(executors.size(), MAX_BULK_THREADS), newThreadFactory("executors-endpoint-bulk-"));
+        try {
+            final Map<String, Future<BulkResultDTO>> futures = new LinkedHashMap<>();
+            for (Entry<String, Executor> entry: executors.entrySet()) {
+                futures.put(entry.getKey(), bulkExecutor.submit(() -> {
+                    try {
+                        update(entry.getKey(), entry.getValue(), threadPriority, threadNamePrefix, daemon, waitForTasksToCompleteOnShutdown, awaitTerminationMillis, defaultTimeout, timeout,
+                                beanName, concurrencyLimit, throttleActive, poolSize, corePoolSize, keepAliveSeconds, maxPoolSize, queueCapacity, allowsCoreThreadTimeOut,
+                                removeOnCancelPolicy, continueExistingPeriodicTasksAfterShutdownPolicy, executeExistingDelayedTasksAfterShutdownPolicy,
+                                rejectionPolicy, rejectionTimeoutMillis, parallelism, virtualThreads, priorityQueue, priorityAgingMillis, stripes);
+                        if (action != null) {
+                            action(entry.getKey(), entry.getValue(), action, null, null, null, null, null, null, null, null);
+                        }
+                        return new BulkResultDTO();
+                    } catch (RuntimeException e) {
+                        return new BulkResultDTO(e);
+                    }
+                }));
+            }
+            for (Entry<String, Future<BulkResultDTO>> entry: futures.entrySet()) {
+                results.put(entry.getKey(), getBulkResult(entry.getValue()));
+            }
+        } finally {
+            bulkExecutor.shutdown();
+            invalidate();
+        }
+        return results;
+    }
+
+    private static final BulkResultDTO getBulkResult(final Future<BulkResultDTO> future) {
+        if (Thread.currentThread().isInterrupted()) {
+            // updates not started yet are abandoned, started ones complete
+            future.cancel(false);
+            return new BulkResultDTO(new InterruptedException());
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            return new BulkResultDTO(e);
+        } catch (ExecutionException e) {
+            return new BulkResultDTO(e);
+        }
+    }
+
+    private Map<String, Executor> select(final String names, final String type) {
+        final String[] patterns = StringUtils.commaDelimitedListToStringArray(names);
+        final Map<String, Executor> executors = new LinkedHashMap<>();
+        for (Entry<String, Executor> entry: listBeans().entrySet()) {
+            if ((patterns.length == 0 || PatternMatchUtils.simpleMatch(patterns, entry.getKey()))
+                    && (type == null
+                        || isType(entry.getValue().getClass(), type)
+                        || isType(CommonsActuatorUtils.unwrap(entry.getValue()).getClass(), type))) {
+                executors.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return executors;
+    }
+
+    private static final boolean isType(final Class<?> clazz, final String type) {
+        if (clazz == null) {
+            return false;
+        }
+        if (type.equals(clazz.getSimpleName()) || type.equals(clazz.getName())) {
+            return true;
+        }
+        for (Class<?> current: clazz.getInterfaces()) {
+            if (isType(current, type)) {
+                return true;
+            }
+        }
+        return isType(clazz.getSuperclass(), type);
+    }
+
     /**
      * @param name
      * @param threadPriority
@@ -194,6 +870,13 @@ public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecu
      * @param removeOnCancelPolicy
      * @param continueExistingPeriodicTasksAfterShutdownPolicy
      * @param executeExistingDelayedTasksAfterShutdownPolicy
+     * @param rejectionPolicy
+     * @param rejectionTimeoutMillis
+     * @param parallelism
+     * @param virtualThreads
+     * @param priorityQueue order the tasks of a priority queue by priority, or by submission time
+     * @param priorityAgingMillis waiting time compensating one priority level
+     * @param stripes number of stripes of a {@link StripedExecutor}
      */
     @SuppressWarnings("java:S107")
     @WriteOperation
@@ -216,8 +899,72 @@ public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecu
             @Nullable Boolean allowsCoreThreadTimeOut,
             @Nullable Boolean removeOnCancelPolicy,
             @Nullable Boolean continueExistingPeriodicTasksAfterShutdownPolicy,
-            @Nullable Boolean executeExistingDelayedTasksAfterShutdownPolicy) {
-        final Executor executor = getBean(name);
+            @Nullable Boolean executeExistingDelayedTasksAfterShutdownPolicy,
+            @Nullable RejectionPolicy rejectionPolicy,
+            @Nullable Long rejectionTimeoutMillis,
+            @Nullable Integer parallelism,
+            @Nullable Boolean virtualThreads,
+            @Nullable Boolean priorityQueue,
+            @Nullable Long priorityAgingMillis,
+            @Nullable Integer stripes) {
+        try {
+            update(name, getBean(name), threadPriority, threadNamePrefix, daemon, waitForTasksToCompleteOnShutdown, awaitTerminationMillis, defaultTimeout, timeout,
+                    beanName, concurrencyLimit, throttleActive, poolSize, corePoolSize, keepAliveSeconds, maxPoolSize, queueCapacity, allowsCoreThreadTimeOut,
+                    removeOnCancelPolicy, continueExistingPeriodicTasksAfterShutdownPolicy, executeExistingDelayedTasksAfterShutdownPolicy,
+                    rejectionPolicy, rejectionTimeoutMillis, parallelism, virtualThreads, priorityQueue, priorityAgingMillis, stripes);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @SuppressWarnings("java:S107")
+    private void update(final String name, final Executor executor,
+            final Integer threadPriority,
+            final String threadNamePrefix,
+            final Boolean daemon,
+            final Boolean waitForTasksToCompleteOnShutdown,
+            final Long awaitTerminationMillis,
+            final Long defaultTimeout,
+            final Long timeout,
+            final String beanName,
+            final Integer concurrencyLimit,
+            final Boolean throttleActive,
+            final Integer poolSize,
+            final Integer corePoolSize,
+            final Integer keepAliveSeconds,
+            final Integer maxPoolSize,
+            final Integer queueCapacity,
+            final Boolean allowsCoreThreadTimeOut,
+            final Boolean removeOnCancelPolicy,
+            final Boolean continueExistingPeriodicTasksAfterShutdownPolicy,
+            final Boolean executeExistingDelayedTasksAfterShutdownPolicy,
+            final RejectionPolicy rejectionPolicy,
+            final Long rejectionTimeoutMillis,
+            final Integer parallelism,
+            final Boolean virtualThreads,
+            final Boolean priorityQueue,
+            final Long priorityAgingMillis,
+            final Integer stripes) {
+        Assert.isTrue(corePoolSize == null || maxPoolSize == null || corePoolSize <= maxPoolSize, "CorePoolSize must be less than or equal to maxPoolSize");
+        final ThreadPoolExecutor tpe = CommonsActuatorUtils.getThreadPoolExecutor(executor);
+        Assert.isTrue(rejectionPolicy == null || tpe != null || executor instanceof ExecutorConfigurationSupport,
+                "RejectionPolicy can only be updated on a thread pool executor");
+        Assert.isTrue(queueCapacity == null || tpe == null || tpe.getQueue() instanceof ResizableBlockingQueue,
+                "QueueCapacity can only be updated on a resizable queue, see management.endpoint.executors.resizable-queue.enabled");
+        if (tpe != null && !(executor instanceof ExecutorConfigurationSupport)) {
+            updatePoolSizes(tpe, corePoolSize, maxPoolSize);
+            if (allowsCoreThreadTimeOut != null) {
+                tpe.allowCoreThreadTimeOut(allowsCoreThreadTimeOut);
+            }
+        } else if (executor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            updatePoolSizes(threadPoolTaskExecutor, corePoolSize, maxPoolSize);
+        }
+        if (parallelism != null && CommonsActuatorUtils.unwrap(executor) instanceof ForkJoinPool forkJoinPool) {
+            updateParallelism(forkJoinPool, parallelism);
+        }
+        if (stripes != null && executor instanceof StripedExecutor stripedExecutor) {
+            stripedExecutor.setStripes(stripes);
+        }
         BeanUtils.copyNonNullProperties(
                 new ConfigurationExecutorUpdate()
                 .setAwaitTerminationMillis(awaitTerminationMillis)
@@ -244,7 +991,6 @@ public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecu
         BeanUtils.copyNonNullProperties(
                 executorUpdate,
                 executor);
-        final ThreadPoolExecutor tpe = getThreadPoolExecutor(executor);
         BeanUtils.copyNonNullProperties(
                 executorUpdate,
                 tpe);
@@ -252,11 +998,98 @@ public class ExecutorsEndpoint extends AbstractBeansEndpoint<Executor, BaseExecu
             if (keepAliveSeconds != null) {
                 tpe.setKeepAliveTime(keepAliveSeconds, TimeUnit.SECONDS);
             }
-            if (queueCapacity != null
-                    && tpe.getQueue() instanceof LinkedBlockingQueue<?>) {
-                ReflectionUtils.setFieldValue(tpe.getQueue(), tpe.getQueue().getClass(), "capacity", int.class, queueCapacity);
+            if (queueCapacity != null) {
+                ((ResizableBlockingQueue<Runnable>) tpe.getQueue()).setCapacity(queueCapacity);
             }
         }
+        if (priorityQueue != null || priorityAgingMillis != null) {
+            updatePriorityQueue(tpe, priorityQueue, priorityAgingMillis);
+        }
+        if (rejectionPolicy != null) {
+            updateRejectionPolicy(executor, tpe, rejectionPolicy, ObjectUtils.getOrDefault(rejectionTimeoutMillis, DEFAULT_REJECTION_TIMEOUT_MILLIS));
+        }
+        if (virtualThreads != null) {
+            updateVirtualThreads(name, executor, virtualThreads);
+        }
+    }
+
+    private void updateVirtualThreads(final String name, final Executor executor, final boolean virtualThreads) {
+        final VirtualThreadFactory factory;
+        if (virtualThreads) {
+            factory = VirtualThreads.enable(executor);
+            if (factory != null) {
+                getPinnedMonitor().register(factory);
+            }
+        } else {
+            factory = VirtualThreads.disable(executor);
+            if (factory != null) {
+                getPinnedMonitor().unregister(factory);
+            }
+        }
+        if (factory != null && executor instanceof ThreadPoolTaskExecutor) {
+            poolRecreated(name);
+        }
+    }
+
+    private static final void updateRejectionPolicy(final Executor executor, final ThreadPoolExecutor tpe, final RejectionPolicy rejectionPolicy, final long timeoutMillis) {
+        final RejectedExecutionHandler rejectedExecutionHandler = tpe != null
+                ? tpe.getRejectedExecutionHandler()
+                : ReflectionUtils.getSafeFieldValue(executor, CommonsActuatorUtils.FIELD_REJECTED_EXECUTION_HANDLER, RejectedExecutionHandler.class);
+        final CountingRejectedExecutionHandler counting = rejectedExecutionHandler instanceof CountingRejectedExecutionHandler countingRejectedExecutionHandler
+                ? countingRejectedExecutionHandler
+                : new CountingRejectedExecutionHandler(rejectedExecutionHandler);
+        counting.setPolicy(rejectionPolicy, timeoutMillis);
+        if (tpe != null) {
+            tpe.setRejectedExecutionHandler(counting);
+        }
+        if (executor instanceof ExecutorConfigurationSupport executorConfiguration) {
+            executorConfiguration.setRejectedExecutionHandler(counting);
+        }
+    }
+
+    private static final void updatePoolSizes(final ThreadPoolExecutor executor, final Integer corePoolSize, final Integer maxPoolSize) {
+        if (maxPoolSize != null && maxPoolSize >= executor.getCorePoolSize()) {
+            executor.setMaximumPoolSize(maxPoolSize);
+        }
+        if (corePoolSize != null) {
+            executor.setCorePoolSize(corePoolSize);
+        }
+        if (maxPoolSize != null) {
+            executor.setMaximumPoolSize(maxPoolSize);
+        }
+    }
+
+    private static final void updatePoolSizes(final ThreadPoolTaskExecutor executor, final Integer corePoolSize, final Integer maxPoolSize) {
+        if (maxPoolSize != null && maxPoolSize >= executor.getCorePoolSize()) {
+            executor.setMaxPoolSize(maxPoolSize);
+        }
+        if (corePoolSize != null) {
+            executor.setCorePoolSize(corePoolSize);
+        }
+        if (maxPoolSize != null) {
+            executor.setMaxPoolSize(maxPoolSize);
+        }
+    }
+
+    private static final void updateParallelism(final ForkJoinPool executor, final int parallelism) {
+        // ForkJoinPool#setParallelism is only available since Java 19
+        final Method method = org.springframework.util.ReflectionUtils.findMethod(ForkJoinPool.class, "setParallelism", int.class);
+        if (method == null) {
+            throw new UnsupportedOperationException("ForkJoinPool parallelism can not be changed on this JVM");
+        }
+        org.springframework.util.ReflectionUtils.invokeMethod(method, executor, parallelism);
+    }
+
+    private static final void updatePriorityQueue(final ThreadPoolExecutor tpe, final Boolean priorityEnabled, final Long agingMillis) {
+        if (tpe == null || !(tpe.getQueue() instanceof PriorityTaskQueue priorityQueue)) {
+            throw new UnsupportedOperationException("Executor has no priority queue, see management.endpoint.executors.priority-queue.enabled");
+        }
+        if (agingMillis != null) {
+            priorityQueue.setAgingMillis(agingMillis);
+        }
+        if (priorityEnabled != null) {
+            priorityQueue.setPriorityEnabled(priorityEnabled);
+        }
     }
 
 }
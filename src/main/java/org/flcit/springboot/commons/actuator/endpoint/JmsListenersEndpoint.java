@@ -16,6 +16,7 @@
 
 package org.flcit.springboot.commons.actuator.endpoint;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -33,6 +34,7 @@ import org.flcit.springboot.commons.actuator.jms.BaseJmsListener;
 import org.flcit.springboot.commons.actuator.jms.FixedBackOffDTO;
 import org.flcit.springboot.commons.actuator.jms.update.JmsListenerAction;
 import org.flcit.springboot.commons.actuator.jms.update.JmsListenerUpdate;
+import org.flcit.springboot.commons.actuator.util.CoalescingSnapshot;
 import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
 import org.flcit.springboot.commons.core.util.BeanUtils;
 
@@ -45,19 +47,41 @@ import org.flcit.springboot.commons.core.util.BeanUtils;
 public class JmsListenersEndpoint {
 
     private final JmsListenerEndpointRegistry registry;
+    private final CoalescingSnapshot<Map<String, BaseJmsListener>> snapshot;
 
     /**
      * @param registry
      */
     public JmsListenersEndpoint(JmsListenerEndpointRegistry registry) {
+        this(registry, null);
+    }
+
+    /**
+     * @param registry
+     * @param snapshotMaxAge max age of the listeners snapshot, null to disable it
+     */
+    public JmsListenersEndpoint(JmsListenerEndpointRegistry registry, Duration snapshotMaxAge) {
         this.registry = registry;
+        this.snapshot = new CoalescingSnapshot<>(this::convertAll, snapshotMaxAge);
     }
 
     /**
      * @return
      */
-    @ReadOperation
     public Map<String, BaseJmsListener> listeners() {
+        return listeners(null);
+    }
+
+    /**
+     * @param fresh true to bypass the snapshot
+     * @return
+     */
+    @ReadOperation
+    public Map<String, BaseJmsListener> listeners(@Nullable Boolean fresh) {
+        return Boolean.TRUE.equals(fresh) ? snapshot.refresh() : snapshot.get();
+    }
+
+    private Map<String, BaseJmsListener> convertAll() {
         final Set<String> ids = registry.getListenerContainerIds();
         Map<String, BaseJmsListener> listeners = new HashMap<>(ids.size());
         for (String id: ids) {
@@ -84,8 +108,12 @@ public class JmsListenersEndpoint {
      */
     @WriteOperation
     public void action(@Selector JmsListenerAction action) {
-        for (String id : registry.getListenerContainerIds()) {
-            action(id, action);
+        try {
+            for (String id : registry.getListenerContainerIds()) {
+                action(registry.getListenerContainer(id), action);
+            }
+        } finally {
+            snapshot.invalidate();
         }
     }
 
@@ -95,7 +123,14 @@ public class JmsListenersEndpoint {
      */
     @WriteOperation
     public void action(@Selector String id, @Selector JmsListenerAction action) {
-        final MessageListenerContainer listener = registry.getListenerContainer(id);
+        try {
+            action(registry.getListenerContainer(id), action);
+        } finally {
+            snapshot.invalidate();
+        }
+    }
+
+    private static final void action(final MessageListenerContainer listener, final JmsListenerAction action) {
         Assert.notNull(listener, "Listener must not be null");
         if (action == JmsListenerAction.start) {
             start(listener);
@@ -185,44 +220,48 @@ public class JmsListenersEndpoint {
             @Nullable String cacheLevelName,
             @Nullable Long backOffInterval,
             @Nullable Long backOffMaxAttempts) {
-        final MessageListenerContainer listener = registry.getListenerContainer(id);
-        BeanUtils.copyNonNullProperties(
-                new FixedBackOffDTO(backOffInterval, backOffMaxAttempts),
-                CommonsActuatorUtils.getBackOff(listener)
-        );
-        final JmsListenerUpdate listenerUpdate = new JmsListenerUpdate()
-                .setAcceptMessagesWhileStopping(acceptMessagesWhileStopping)
-                .setCacheLevel(cacheLevel)
-                .setCacheLevelName(cacheLevelName)
-                .setClientId(clientId)
-                .setConcurrency(concurrency)
-                .setConcurrentConsumers(concurrentConsumers)
-                .setDestinationName(destinationName)
-                .setDurableSubscriptionName(durableSubscriptionName)
-                .setIdleConsumerLimit(idleConsumerLimit)
-                .setIdleReceivesPerTaskLimit(idleReceivesPerTaskLimit)
-                .setIdleTaskExecutionLimit(idleTaskExecutionLimit)
-                .setMaxConcurrentConsumers(maxConcurrentConsumers)
-                .setMaxMessagesPerTask(maxMessagesPerTask)
-                .setMessageSelector(messageSelector)
-                .setPubSubDomain(replyPubSubDomain)
-                .setPubSubNoLocal(pubSubNoLocal)
-                .setReceiveTimeout(receiveTimeout)
-                .setRecoveryInterval(recoveryInterval)
-                .setReplyPubSubDomain(replyPubSubDomain)
-                .setSessionAcknowledgeMode(sessionAcknowledgeMode)
-                .setSessionAcknowledgeModeName(sessionAcknowledgeModeName)
-                .setSessionTransacted(sessionTransacted)
-                .setSubscriptionDurable(subscriptionDurable)
-                .setSubscriptionName(subscriptionName)
-                .setSubscriptionShared(subscriptionShared)
-                .setTransactionTimeout(transactionTimeout);
-        BeanUtils.copyNonNullProperties(
-                listenerUpdate,
-                listener
-        );
-        if (listenerUpdate.needRestart()) {
-            restart(listener);
+        try {
+            final MessageListenerContainer listener = registry.getListenerContainer(id);
+            BeanUtils.copyNonNullProperties(
+                    new FixedBackOffDTO(backOffInterval, backOffMaxAttempts),
+                    CommonsActuatorUtils.getBackOff(listener)
+            );
+            final JmsListenerUpdate listenerUpdate = new JmsListenerUpdate()
+                    .setAcceptMessagesWhileStopping(acceptMessagesWhileStopping)
+                    .setCacheLevel(cacheLevel)
+                    .setCacheLevelName(cacheLevelName)
+                    .setClientId(clientId)
+                    .setConcurrency(concurrency)
+                    .setConcurrentConsumers(concurrentConsumers)
+                    .setDestinationName(destinationName)
+                    .setDurableSubscriptionName(durableSubscriptionName)
+                    .setIdleConsumerLimit(idleConsumerLimit)
+                    .setIdleReceivesPerTaskLimit(idleReceivesPerTaskLimit)
+                    .setIdleTaskExecutionLimit(idleTaskExecutionLimit)
+                    .setMaxConcurrentConsumers(maxConcurrentConsumers)
+                    .setMaxMessagesPerTask(maxMessagesPerTask)
+                    .setMessageSelector(messageSelector)
+                    .setPubSubDomain(replyPubSubDomain)
+                    .setPubSubNoLocal(pubSubNoLocal)
+                    .setReceiveTimeout(receiveTimeout)
+                    .setRecoveryInterval(recoveryInterval)
+                    .setReplyPubSubDomain(replyPubSubDomain)
+                    .setSessionAcknowledgeMode(sessionAcknowledgeMode)
+                    .setSessionAcknowledgeModeName(sessionAcknowledgeModeName)
+                    .setSessionTransacted(sessionTransacted)
+                    .setSubscriptionDurable(subscriptionDurable)
+                    .setSubscriptionName(subscriptionName)
+                    .setSubscriptionShared(subscriptionShared)
+                    .setTransactionTimeout(transactionTimeout);
+            BeanUtils.copyNonNullProperties(
+                    listenerUpdate,
+                    listener
+            );
+            if (listenerUpdate.needRestart()) {
+                restart(listener);
+            }
+        } finally {
+            snapshot.invalidate();
         }
     }
 
@@ -68,11 +68,20 @@ public class RestTemplatesEndpoint extends AbstractBeansEndpoint<RestTemplate, B
      *
      */
     @Override
-    @ReadOperation
     public Map<String, BaseRestTemplate> list() {
         return super.list();
     }
 
+    /**
+     * @param fresh true to bypass the snapshot
+     * @return
+     */
+    @Override
+    @ReadOperation
+    public Map<String, BaseRestTemplate> list(@Nullable Boolean fresh) {
+        return super.list(fresh);
+    }
+
     /**
      *
      */
@@ -93,8 +102,12 @@ public class RestTemplatesEndpoint extends AbstractBeansEndpoint<RestTemplate, B
      */
     @WriteOperation
     public void action(@Selector RestTemplateAction action) throws Exception {
-        for (Entry<String, RestTemplate> entry: listBeans().entrySet()) {
-            action(entry.getValue(), action);
+        try {
+            for (Entry<String, RestTemplate> entry: listBeans().entrySet()) {
+                action(entry.getValue(), action);
+            }
+        } finally {
+            invalidate();
         }
     }
 
@@ -105,7 +118,11 @@ public class RestTemplatesEndpoint extends AbstractBeansEndpoint<RestTemplate, B
      */
     @WriteOperation
     public void action(@Selector String name, @Selector RestTemplateAction action) throws Exception {
-        action(getBean(name), action);
+        try {
+            action(getBean(name), action);
+        } finally {
+            invalidate();
+        }
     }
 
     private void action(final RestTemplate restTemplate, final RestTemplateAction action) throws Exception {
@@ -215,28 +232,32 @@ public class RestTemplatesEndpoint extends AbstractBeansEndpoint<RestTemplate, B
             @Nullable Boolean tracesResponseBody,
             @Nullable Integer tracesRequestMaxLength,
             @Nullable Integer tracesResponseMaxLength) throws Exception {
-        final RestTemplate restTemplate = getBean(name);
-        BeanUtils.copyNonNullProperties(
-                new RestTemplateUpdate()
-                .setUrl(url)
-                .setSimpleClientHttp(simpleClientHttp)
-                .setConnectTimeout(connectTimeout)
-                .setConnectionRequestTimeout(connectionRequestTimeout)
-                .setSocketTimeout(socketTimeout)
-                .setChunkSize(chunkSize)
-                .setMaxConnectionPerRoute(maxConnectionPerRoute)
-                .setMaxConnectionTotal(maxConnectionTotal)
-                .setProxy(proxy)
-                .setStreaming(streaming)
-                .setSslCertificateVerification(sslCertificateVerification)
-                .setQueryParamsListMode(queryParamsListMode)
-                .setTraces(convert(
-                        tracesResponseActive,
-                        convert(tracesRequestActive, tracesRequestHeaders, tracesRequestBody, tracesRequestMaxLength),
-                        convert(tracesResponseActive, tracesResponseHeaders, tracesResponseBody, tracesResponseMaxLength))),
-                restTemplate);
-        CommonsActuatorUtils.setFieldEnum(restTemplate, "queryParamsListMode", queryParamsListMode);
-        BeanUtils.initializing(restTemplate);
+        try {
+            final RestTemplate restTemplate = getBean(name);
+            BeanUtils.copyNonNullProperties(
+                    new RestTemplateUpdate()
+                    .setUrl(url)
+                    .setSimpleClientHttp(simpleClientHttp)
+                    .setConnectTimeout(connectTimeout)
+                    .setConnectionRequestTimeout(connectionRequestTimeout)
+                    .setSocketTimeout(socketTimeout)
+                    .setChunkSize(chunkSize)
+                    .setMaxConnectionPerRoute(maxConnectionPerRoute)
+                    .setMaxConnectionTotal(maxConnectionTotal)
+                    .setProxy(proxy)
+                    .setStreaming(streaming)
+                    .setSslCertificateVerification(sslCertificateVerification)
+                    .setQueryParamsListMode(queryParamsListMode)
+                    .setTraces(convert(
+                            tracesResponseActive,
+                            convert(tracesRequestActive, tracesRequestHeaders, tracesRequestBody, tracesRequestMaxLength),
+                            convert(tracesResponseActive, tracesResponseHeaders, tracesResponseBody, tracesResponseMaxLength))),
+                    restTemplate);
+            CommonsActuatorUtils.setFieldEnum(restTemplate, "queryParamsListMode", queryParamsListMode);
+            BeanUtils.initializing(restTemplate);
+        } finally {
+            invalidate();
+        }
     }
 
     private static final HttpClientTracesConfiguration convert(Boolean active, LoggingMessageClientHttpRequestInterceptor request, LoggingMessageClientHttpRequestInterceptor response) {
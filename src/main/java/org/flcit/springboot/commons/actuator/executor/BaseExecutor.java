@@ -18,6 +18,10 @@ package org.flcit.springboot.commons.actuator.executor;
 
 import org.springframework.util.CustomizableThreadCreator;
 
+import org.flcit.springboot.commons.actuator.executor.virtual.VirtualThreadFactory;
+import org.flcit.springboot.commons.actuator.executor.virtual.VirtualThreads;
+import org.flcit.springboot.commons.actuator.executor.virtual.VirtualThreadsDTO;
+
 /**
  * 
  * @since 
@@ -26,17 +30,26 @@ import org.springframework.util.CustomizableThreadCreator;
 public class BaseExecutor {
 
     private final String name;
-    private final Class<? extends CustomizableThreadCreator> type;
+    private final Class<?> type;
     private final int threadPriority;
     private final String threadNamePrefix;
     private final boolean daemon;
+    private VirtualThreadsDTO virtualThreads;
 
     BaseExecutor(final String name, final CustomizableThreadCreator executor) {
+        this(name, executor.getClass(), executor.getThreadPriority(), executor.getThreadNamePrefix(), executor.isDaemon());
+        final VirtualThreadFactory virtualThreadFactory = VirtualThreads.getFactory(executor);
+        if (virtualThreadFactory != null) {
+            this.virtualThreads = new VirtualThreadsDTO(executor, virtualThreadFactory);
+        }
+    }
+
+    BaseExecutor(final String name, final Class<?> type, final int threadPriority, final String threadNamePrefix, final boolean daemon) {
         this.name = name;
-        this.type = executor.getClass();
-        this.threadPriority = executor.getThreadPriority();
-        this.threadNamePrefix = executor.getThreadNamePrefix();
-        this.daemon = executor.isDaemon();
+        this.type = type;
+        this.threadPriority = threadPriority;
+        this.threadNamePrefix = threadNamePrefix;
+        this.daemon = daemon;
     }
 
     /**
@@ -49,7 +62,7 @@ public class BaseExecutor {
     /**
      * @return
      */
-    public Class<? extends CustomizableThreadCreator> getType() {
+    public Class<?> getType() {
         return type;
     }
 
@@ -74,4 +87,11 @@ public class BaseExecutor {
         return daemon;
     }
 
+    /**
+     * @return
+     */
+    public VirtualThreadsDTO getVirtualThreads() {
+        return virtualThreads;
+    }
+
 }
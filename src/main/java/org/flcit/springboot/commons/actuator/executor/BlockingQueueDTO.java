@@ -16,8 +16,11 @@
 
 package org.flcit.springboot.commons.actuator.executor;
 
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 
+import org.flcit.springboot.commons.actuator.executor.queue.PriorityTaskQueue;
+import org.flcit.springboot.commons.actuator.executor.queue.ResizableBlockingQueue;
 import org.flcit.commons.core.util.ClassUtils;
 import org.flcit.commons.core.util.ReflectionUtils;
 
@@ -32,12 +35,24 @@ public class BlockingQueueDTO {
     private final Integer capacity;
     private final int remainingCapacity;
     private final Class<? extends BlockingQueue<Runnable>> type;
+    private final Boolean priorityEnabled;
+    private final Long priorityAgingMillis;
+    private final Map<Integer, Integer> priorities;
 
     BlockingQueueDTO(BlockingQueue<Runnable> queue) {
         this.size = queue.size();
-        this.capacity = ReflectionUtils.getSafeFieldValue(queue, "capacity", int.class);
+        this.capacity = queue instanceof ResizableBlockingQueue<?> resizableQueue ? Integer.valueOf(resizableQueue.getCapacity()) : ReflectionUtils.getSafeFieldValue(queue, "capacity", int.class);
         this.type = ClassUtils.getSafe(queue);
         this.remainingCapacity = queue.remainingCapacity();
+        if (queue instanceof PriorityTaskQueue priorityQueue) {
+            this.priorityEnabled = priorityQueue.isPriorityEnabled();
+            this.priorityAgingMillis = priorityQueue.getAgingMillis();
+            this.priorities = priorityQueue.getDepths();
+        } else {
+            this.priorityEnabled = null;
+            this.priorityAgingMillis = null;
+            this.priorities = null;
+        }
     }
 
     /**
@@ -68,4 +83,25 @@ public class BlockingQueueDTO {
         return type;
     }
 
+    /**
+     * @return
+     */
+    public Boolean getPriorityEnabled() {
+        return priorityEnabled;
+    }
+
+    /**
+     * @return
+     */
+    public Long getPriorityAgingMillis() {
+        return priorityAgingMillis;
+    }
+
+    /**
+     * @return number of queued tasks by priority, highest first
+     */
+    public Map<Integer, Integer> getPriorities() {
+        return priorities;
+    }
+
 }
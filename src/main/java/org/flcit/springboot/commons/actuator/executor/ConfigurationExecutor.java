@@ -21,6 +21,10 @@ import java.util.concurrent.RejectedExecutionHandler;
 
 import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
 
+import org.flcit.springboot.commons.actuator.executor.instrument.ExecutorStatistics;
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.executor.rejection.CountingRejectedExecutionHandler;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
 import org.flcit.commons.core.util.ClassUtils;
 import org.flcit.commons.core.util.ObjectUtils;
 import org.flcit.commons.core.util.ReflectionUtils;
@@ -39,16 +43,24 @@ public class ConfigurationExecutor extends BaseExecutor {
     private final boolean terminated;
     private final Long defaultTimeout;
     private final Long timeout;
+    private final ExecutorLatencyDTO latency;
 
     ConfigurationExecutor(final String name, final ExecutorConfigurationSupport executor) {
         super(ObjectUtils.getOrDefault(name, () -> ReflectionUtils.getFieldValue(executor, "beanName", String.class)), executor);
-        this.rejectedExecutionHandler = ClassUtils.getSafe(ReflectionUtils.getFieldValue(executor, "rejectedExecutionHandler", RejectedExecutionHandler.class));
+        this.rejectedExecutionHandler = ClassUtils.getSafe(CountingRejectedExecutionHandler.unwrap(ReflectionUtils.getFieldValue(executor, CommonsActuatorUtils.FIELD_REJECTED_EXECUTION_HANDLER, RejectedExecutionHandler.class)));
         this.waitForTasksToCompleteOnShutdown = ReflectionUtils.getFieldValue(executor, "waitForTasksToCompleteOnShutdown", boolean.class);
         this.awaitTerminationMillis = ReflectionUtils.getFieldValue(executor, "awaitTerminationMillis", long.class);
         this.shutdown = ReflectionUtils.getFieldValue(executor, "executor", ExecutorService.class).isShutdown();
         this.terminated = ReflectionUtils.getFieldValue(executor, "executor", ExecutorService.class).isTerminated();
         this.defaultTimeout = ReflectionUtils.getSafeFieldValue(executor, "defaultTimeout", Long.class);
         this.timeout = ReflectionUtils.getSafeFieldValue(executor, "timeout", Long.class);
+        final InstrumentedTaskDecorator instrumentation = CommonsActuatorUtils.getInstrumentation(executor);
+        this.latency = instrumentation != null ? new ExecutorLatencyDTO(instrumentation) : null;
+    }
+
+    static final ExecutorStatistics getStatistics(final ExecutorConfigurationSupport executor) {
+        final InstrumentedTaskDecorator instrumentation = CommonsActuatorUtils.getInstrumentation(executor);
+        return instrumentation != null ? instrumentation.getStatistics() : null;
     }
 
     /**
@@ -100,4 +112,11 @@ public class ConfigurationExecutor extends BaseExecutor {
         return timeout;
     }
 
+    /**
+     * @return
+     */
+    public ExecutorLatencyDTO getLatency() {
+        return latency;
+    }
+
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.util.CustomizableThreadCreator;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorServiceDTO extends BaseExecutor {
+
+    private final boolean shutdown;
+    private final boolean terminated;
+    private final ThreadPoolExecutorDTO threadPoolExecutor;
+
+    /**
+     * @param name
+     * @param executor
+     */
+    public ExecutorServiceDTO(final String name, final ExecutorService executor) {
+        this(name, executor, getThreadCreator(executor));
+    }
+
+    private ExecutorServiceDTO(final String name, final ExecutorService executor, final CustomizableThreadCreator threadCreator) {
+        this(name, executor,
+                threadCreator != null ? threadCreator.getThreadPriority() : Thread.NORM_PRIORITY,
+                threadCreator != null ? threadCreator.getThreadNamePrefix() : null,
+                threadCreator != null && threadCreator.isDaemon());
+    }
+
+    ExecutorServiceDTO(final String name, final ExecutorService executor, final int threadPriority, final String threadNamePrefix, final boolean daemon) {
+        super(name, executor.getClass(), threadPriority, threadNamePrefix, daemon);
+        this.shutdown = executor.isShutdown();
+        this.terminated = executor.isTerminated();
+        if (executor instanceof ScheduledThreadPoolExecutor scheduledThreadPoolExecutor) {
+            this.threadPoolExecutor = new ScheduledThreadPoolExecutorDTO(scheduledThreadPoolExecutor);
+        } else if (executor instanceof ThreadPoolExecutor tpe) {
+            this.threadPoolExecutor = new ThreadPoolExecutorDTO(tpe);
+        } else {
+            this.threadPoolExecutor = null;
+        }
+    }
+
+    private static final CustomizableThreadCreator getThreadCreator(final ExecutorService executor) {
+        return executor instanceof ThreadPoolExecutor tpe && tpe.getThreadFactory() instanceof CustomizableThreadCreator threadCreator ? threadCreator : null;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isTerminated() {
+        return terminated;
+    }
+
+    /**
+     * @return
+     */
+    public ThreadPoolExecutorDTO getThreadPoolExecutor() {
+        return threadPoolExecutor;
+    }
+
+}
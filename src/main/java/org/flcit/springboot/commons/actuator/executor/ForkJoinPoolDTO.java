@@ -0,0 +1,135 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ForkJoinPoolDTO extends ExecutorServiceDTO {
+
+    private final boolean common;
+    private final int parallelism;
+    private final int poolSize;
+    private final int activeThreadCount;
+    private final int runningThreadCount;
+    private final int queuedSubmissionCount;
+    private final long queuedTaskCount;
+    private final long stealCount;
+    private final boolean asyncMode;
+    private final boolean quiescent;
+    private final boolean terminating;
+
+    /**
+     * @param name
+     * @param executor
+     */
+    public ForkJoinPoolDTO(final String name, final ForkJoinPool executor) {
+        super(name, executor, Thread.NORM_PRIORITY, null, true);
+        this.common = executor == ForkJoinPool.commonPool();
+        this.parallelism = executor.getParallelism();
+        this.poolSize = executor.getPoolSize();
+        this.activeThreadCount = executor.getActiveThreadCount();
+        this.runningThreadCount = executor.getRunningThreadCount();
+        this.queuedSubmissionCount = executor.getQueuedSubmissionCount();
+        this.queuedTaskCount = executor.getQueuedTaskCount();
+        this.stealCount = executor.getStealCount();
+        this.asyncMode = executor.getAsyncMode();
+        this.quiescent = executor.isQuiescent();
+        this.terminating = executor.isTerminating();
+    }
+
+    /**
+     * @return
+     */
+    public boolean isCommon() {
+        return common;
+    }
+
+    /**
+     * @return
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * @return
+     */
+    public int getActiveThreadCount() {
+        return activeThreadCount;
+    }
+
+    /**
+     * @return
+     */
+    public int getRunningThreadCount() {
+        return runningThreadCount;
+    }
+
+    /**
+     * @return
+     */
+    public int getQueuedSubmissionCount() {
+        return queuedSubmissionCount;
+    }
+
+    /**
+     * @return
+     */
+    public long getQueuedTaskCount() {
+        return queuedTaskCount;
+    }
+
+    /**
+     * @return
+     */
+    public long getStealCount() {
+        return stealCount;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isAsyncMode() {
+        return asyncMode;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isQuiescent() {
+        return quiescent;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isTerminating() {
+        return terminating;
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.LatencyHistogram;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class LatencyDTO {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final long count;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    /**
+     * @param histogram
+     */
+    public LatencyDTO(final LatencyHistogram histogram) {
+        this.count = histogram.getCount();
+        this.p50Millis = toMillis(histogram.getValueAtPercentile(50));
+        this.p90Millis = toMillis(histogram.getValueAtPercentile(90));
+        this.p99Millis = toMillis(histogram.getValueAtPercentile(99));
+        this.maxMillis = toMillis(histogram.getMax());
+    }
+
+    private static final double toMillis(final long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * @return
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return
+     */
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    /**
+     * @return
+     */
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    /**
+     * @return
+     */
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    /**
+     * @return
+     */
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+}
@@ -18,6 +18,8 @@ package org.flcit.springboot.commons.actuator.executor;
 
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 
+import org.flcit.springboot.commons.actuator.executor.instrument.ExecutorStatistics;
+
 /**
  * 
  * @since 
@@ -33,7 +35,15 @@ public class ScheduledThreadPoolExecutorDTO extends ThreadPoolExecutorDTO {
      * @param executor
      */
     public ScheduledThreadPoolExecutorDTO(final ScheduledThreadPoolExecutor executor) {
-        super(executor);
+        this(executor, null);
+    }
+
+    /**
+     * @param executor
+     * @param statistics
+     */
+    public ScheduledThreadPoolExecutorDTO(final ScheduledThreadPoolExecutor executor, final ExecutorStatistics statistics) {
+        super(executor, statistics);
         this.removeOnCancelPolicy = executor.getRemoveOnCancelPolicy();
         this.continueExistingPeriodicTasksAfterShutdownPolicy = executor.getContinueExistingPeriodicTasksAfterShutdownPolicy();
         this.executeExistingDelayedTasksAfterShutdownPolicy = executor.getExecuteExistingDelayedTasksAfterShutdownPolicy();
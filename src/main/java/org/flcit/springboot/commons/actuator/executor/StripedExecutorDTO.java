@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor;
+
+import java.util.List;
+
+import org.flcit.springboot.commons.actuator.executor.striped.HotKeyDTO;
+import org.flcit.springboot.commons.actuator.executor.striped.StripeDTO;
+import org.flcit.springboot.commons.actuator.executor.striped.StripedExecutor;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class StripedExecutorDTO extends BaseExecutor {
+
+    private final int stripeCount;
+    private final boolean resizing;
+    private final int backlog;
+    private final long failedCount;
+    private final long callerDrainedCount;
+    private final List<StripeDTO> stripes;
+    private final List<HotKeyDTO> hotKeys;
+    private final BaseExecutor delegate;
+
+    /**
+     * @param name
+     * @param executor
+     */
+    public StripedExecutorDTO(final String name, final StripedExecutor executor) {
+        super(name, executor.getClass(), Thread.NORM_PRIORITY, null, false);
+        this.stripeCount = executor.getStripes();
+        this.resizing = executor.isResizing();
+        this.stripes = executor.getStripeStatistics();
+        this.backlog = stripes.stream().mapToInt(StripeDTO::getBacklog).sum();
+        this.failedCount = executor.getFailedCount();
+        this.callerDrainedCount = executor.getCallerDrainedCount();
+        this.hotKeys = executor.getHotKeys();
+        this.delegate = CommonsActuatorUtils.convert(executor.getDelegate());
+    }
+
+    /**
+     * @return
+     */
+    public int getStripeCount() {
+        return stripeCount;
+    }
+
+    /**
+     * @return true while the previous stripes are drained after a change of the number of stripes
+     */
+    public boolean isResizing() {
+        return resizing;
+    }
+
+    /**
+     * @return
+     */
+    public int getBacklog() {
+        return backlog;
+    }
+
+    /**
+     * @return failed tasks since the creation, whatever the number of stripes
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * @return batches refused by the delegate and drained by the thread trying to schedule them
+     */
+    public long getCallerDrainedCount() {
+        return callerDrainedCount;
+    }
+
+    /**
+     * @return
+     */
+    public List<StripeDTO> getStripes() {
+        return stripes;
+    }
+
+    /**
+     * @return
+     */
+    public List<HotKeyDTO> getHotKeys() {
+        return hotKeys;
+    }
+
+    /**
+     * @return
+     */
+    public BaseExecutor getDelegate() {
+        return delegate;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.TaskTypeStatistics;
+import org.flcit.springboot.commons.actuator.executor.instrument.TaskTypes;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class TaskTypeDTO {
+
+    private final String type;
+    private final long count;
+    private final long failedCount;
+    private final LatencyDTO queueWait;
+    private final LatencyDTO execution;
+
+    /**
+     * @param statistics
+     */
+    public TaskTypeDTO(final TaskTypeStatistics statistics) {
+        this.type = statistics.getType();
+        this.count = statistics.getCount();
+        this.failedCount = statistics.getFailedCount();
+        this.queueWait = new LatencyDTO(statistics.getQueueWait());
+        this.execution = new LatencyDTO(statistics.getExecution());
+    }
+
+    /**
+     * @param taskTypes
+     * @return task types, most time consuming first
+     */
+    public static List<TaskTypeDTO> of(final TaskTypes taskTypes) {
+        return taskTypes.getTypes().stream()
+                .sorted(Comparator.comparingLong((TaskTypeStatistics statistics) -> statistics.getExecution().getTotal()).reversed())
+                .map(TaskTypeDTO::new)
+                .toList();
+    }
+
+    /**
+     * @return
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * @return
+     */
+    public LatencyDTO getQueueWait() {
+        return queueWait;
+    }
+
+    /**
+     * @return
+     */
+    public LatencyDTO getExecution() {
+        return execution;
+    }
+
+}
@@ -20,6 +20,9 @@ import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import org.flcit.springboot.commons.actuator.executor.instrument.ExecutorStatistics;
+import org.flcit.springboot.commons.actuator.executor.rejection.CountingRejectedExecutionHandler;
+import org.flcit.springboot.commons.actuator.executor.rejection.RejectionDTO;
 import org.flcit.commons.core.util.ClassUtils;
 
 /**
@@ -44,23 +47,34 @@ public class ThreadPoolExecutorDTO {
     private final long keepAliveTimeSeconds;
     private final Class<? extends RejectedExecutionHandler> rejectedExecutionHandler;
     private final BlockingQueueDTO queue;
+    private final RejectionDTO rejection;
 
     ThreadPoolExecutorDTO(ThreadPoolExecutor executor) {
+        this(executor, null);
+    }
+
+    ThreadPoolExecutorDTO(ThreadPoolExecutor executor, ExecutorStatistics statistics) {
         this.type = executor.getClass();
-        this.activeCount = executor.getActiveCount();
+        this.activeCount = statistics != null ? statistics.getActiveCount() : executor.getActiveCount();
         this.corePoolSize = executor.getCorePoolSize();
-        this.largestPoolSize = executor.getLargestPoolSize();
+        this.largestPoolSize = statistics != null ? statistics.getLargestPoolSize() : executor.getLargestPoolSize();
         this.maximumPoolSize = executor.getMaximumPoolSize();
-        this.poolSize = executor.getPoolSize();
+        this.poolSize = statistics != null ? statistics.getPoolSize() : executor.getPoolSize();
         this.allowsCoreThreadTimeOut = executor.allowsCoreThreadTimeOut();
         this.shutdown = executor.isShutdown();
         this.terminated = executor.isTerminated();
         this.terminating = executor.isTerminating();
-        this.taskCount = executor.getTaskCount();
-        this.completedTaskCount = executor.getCompletedTaskCount();
         this.keepAliveTimeSeconds = executor.getKeepAliveTime(TimeUnit.SECONDS);
-        this.rejectedExecutionHandler = ClassUtils.getSafe(executor.getRejectedExecutionHandler());
+        this.rejectedExecutionHandler = ClassUtils.getSafe(CountingRejectedExecutionHandler.unwrap(executor.getRejectedExecutionHandler()));
+        this.rejection = executor.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler counting ? new RejectionDTO(counting) : null;
         this.queue = new BlockingQueueDTO(executor.getQueue());
+        if (statistics != null) {
+            this.completedTaskCount = statistics.getCompletedTaskCount();
+            this.taskCount = this.completedTaskCount + this.activeCount + this.queue.getSize();
+        } else {
+            this.taskCount = executor.getTaskCount();
+            this.completedTaskCount = executor.getCompletedTaskCount();
+        }
     }
 
     /**
@@ -168,4 +182,11 @@ public class ThreadPoolExecutorDTO {
         return queue;
     }
 
+    /**
+     * @return rejections counted since the executor is instrumented or its rejection policy was updated, null before
+     */
+    public RejectionDTO getRejection() {
+        return rejection;
+    }
+
 }
@@ -18,6 +18,7 @@ package org.flcit.springboot.commons.actuator.executor;
 
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import org.flcit.springboot.commons.actuator.executor.instrument.ExecutorStatistics;
 import org.flcit.commons.core.util.ReflectionUtils;
 
 /**
@@ -43,15 +44,16 @@ public class ThreadPoolTaskExecutorDTO extends ConfigurationExecutor {
      */
     public ThreadPoolTaskExecutorDTO(final String name, final ThreadPoolTaskExecutor executor) {
         super(name, executor);
-        this.activeCount = executor.getActiveCount();
-        this.poolSize = executor.getPoolSize();
+        final ExecutorStatistics statistics = getStatistics(executor);
+        this.activeCount = statistics != null ? statistics.getActiveCount() : executor.getActiveCount();
+        this.poolSize = statistics != null ? statistics.getPoolSize() : executor.getPoolSize();
         this.corePoolSize = executor.getCorePoolSize();
         this.keepAliveSeconds = executor.getKeepAliveSeconds();
         this.maxPoolSize = executor.getMaxPoolSize();
         this.queueCapacity = (Integer) ReflectionUtils.getSafeMethodValue(executor, "getQueueCapacity");
         this.queueSize = (Integer) ReflectionUtils.getSafeMethodValue(executor, "getQueueSize");
         this.prefersShortLivedTasks = executor.prefersShortLivedTasks();
-        this.threadPoolExecutor = new ThreadPoolExecutorDTO(executor.getThreadPoolExecutor());
+        this.threadPoolExecutor = new ThreadPoolExecutorDTO(executor.getThreadPoolExecutor(), statistics);
     }
 
     /**
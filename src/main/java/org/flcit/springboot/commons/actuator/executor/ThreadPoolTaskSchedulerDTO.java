@@ -19,6 +19,7 @@ package org.flcit.springboot.commons.actuator.executor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.util.ErrorHandler;
 
+import org.flcit.springboot.commons.actuator.executor.instrument.ExecutorStatistics;
 import org.flcit.commons.core.util.ClassUtils;
 import org.flcit.commons.core.util.ReflectionUtils;
 
@@ -41,10 +42,11 @@ public class ThreadPoolTaskSchedulerDTO extends ConfigurationExecutor {
      */
     public ThreadPoolTaskSchedulerDTO(final String name, final ThreadPoolTaskScheduler executor) {
         super(name, executor);
-        this.activeCount = executor.getActiveCount();
-        this.poolSize = executor.getPoolSize();
+        final ExecutorStatistics statistics = getStatistics(executor);
+        this.activeCount = statistics != null ? statistics.getActiveCount() : executor.getActiveCount();
+        this.poolSize = statistics != null ? statistics.getPoolSize() : executor.getPoolSize();
         this.prefersShortLivedTasks = executor.prefersShortLivedTasks();
-        this.scheduledExecutor = new ScheduledThreadPoolExecutorDTO(executor.getScheduledThreadPoolExecutor());
+        this.scheduledExecutor = new ScheduledThreadPoolExecutorDTO(executor.getScheduledThreadPoolExecutor(), statistics);
         this.errorHandler = ClassUtils.getSafe(ReflectionUtils.getFieldValue(executor, "errorHandler", ErrorHandler.class));
     }
 
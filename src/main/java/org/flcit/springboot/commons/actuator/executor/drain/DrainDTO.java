@@ -0,0 +1,121 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.drain;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class DrainDTO {
+
+    private final DrainState state;
+    private final long elapsedMillis;
+    private final long timeoutMillis;
+    private final int initialQueued;
+    private final int initialActive;
+    private final int remainingQueued;
+    private final int remainingActive;
+    private final long completed;
+    private final String target;
+    private final long diverted;
+
+    @SuppressWarnings("java:S107")
+    DrainDTO(DrainState state, long elapsedMillis, long timeoutMillis, int initialQueued, int initialActive, int remainingQueued, int remainingActive, long completed,
+            String target, long diverted) {
+        this.state = state;
+        this.elapsedMillis = elapsedMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.initialQueued = initialQueued;
+        this.initialActive = initialActive;
+        this.remainingQueued = remainingQueued;
+        this.remainingActive = remainingActive;
+        this.completed = completed;
+        this.target = target;
+        this.diverted = diverted;
+    }
+
+    /**
+     * @return
+     */
+    public DrainState getState() {
+        return state;
+    }
+
+    /**
+     * @return
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * @return
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * @return
+     */
+    public int getInitialQueued() {
+        return initialQueued;
+    }
+
+    /**
+     * @return
+     */
+    public int getInitialActive() {
+        return initialActive;
+    }
+
+    /**
+     * @return
+     */
+    public int getRemainingQueued() {
+        return remainingQueued;
+    }
+
+    /**
+     * @return
+     */
+    public int getRemainingActive() {
+        return remainingActive;
+    }
+
+    /**
+     * @return tasks completed since the drain started
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * @return tasks submitted during the drain and diverted to the target
+     */
+    public long getDiverted() {
+        return diverted;
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.drain;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import org.flcit.springboot.commons.actuator.executor.rejection.CountingRejectedExecutionHandler;
+import org.flcit.springboot.commons.actuator.executor.rejection.DivertingRejectedExecutionHandler;
+
+/**
+ * Stops the intake of an executor (new submissions are rejected) and lets queued and active tasks complete.
+ * Tasks still queued at the deadline are kept: the executor can then be forced with shutdownNow or restarted with start.
+ * Without a target, the tasks submitted during the drain go to the rejection policy, which must not drop them silently
+ * (callerRuns, discard and discardOldest do after shutdown); with a target they are submitted to the target executor.
+ * The diverting handler is installed behind the {@link CountingRejectedExecutionHandler} of the executor, if any,
+ * which keeps counting the rejections, and removed when the drain is cancelled.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorDrain implements Runnable {
+
+    private static final long CHECK_INTERVAL_MILLIS = 100;
+
+    private final ThreadPoolExecutor executor;
+    private final String targetName;
+    private final CountingRejectedExecutionHandler counting;
+    private final DivertingRejectedExecutionHandler diverting;
+    private final long timeoutMillis;
+    private final long startMillis;
+    private final int initialQueued;
+    private final int initialActive;
+    private final long initialCompleted;
+
+    private ScheduledFuture<?> future;
+    private DrainState state = DrainState.draining;
+    private long endMillis;
+
+    /**
+     * @param executor
+     * @param target null to reject the tasks submitted during the drain
+     * @param targetName
+     * @param timeoutMillis
+     */
+    public ExecutorDrain(final ThreadPoolExecutor executor, final Executor target, final String targetName, final long timeoutMillis) {
+        Assert.isTrue(timeoutMillis > 0, "TimeoutMillis must be greater than 0");
+        Assert.state(target != null || !DivertingRejectedExecutionHandler.dropsSilently(executor.getRejectedExecutionHandler()),
+                "The rejection policy of the executor drops the tasks submitted after shutdown silently: drain to a target executor");
+        this.executor = executor;
+        this.targetName = targetName;
+        this.counting = executor.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler countingRejectedExecutionHandler
+                ? countingRejectedExecutionHandler
+                : null;
+        this.diverting = target != null
+                ? new DivertingRejectedExecutionHandler(counting != null ? counting.getDelegate() : executor.getRejectedExecutionHandler(), target)
+                : null;
+        this.timeoutMillis = timeoutMillis;
+        this.startMillis = System.currentTimeMillis();
+        this.initialQueued = executor.getQueue().size();
+        this.initialActive = executor.getActiveCount();
+        this.initialCompleted = executor.getCompletedTaskCount();
+    }
+
+    /**
+     * @param scheduler
+     */
+    public synchronized void start(final ScheduledExecutorService scheduler) {
+        if (diverting != null && counting != null) {
+            counting.setDelegate(diverting);
+        } else if (diverting != null) {
+            executor.setRejectedExecutionHandler(diverting);
+        }
+        executor.shutdown();
+        future = scheduler.scheduleWithFixedDelay(this, 0, CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 
+     */
+    public synchronized void stop() {
+        if (state == DrainState.draining) {
+            end(DrainState.cancelled);
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public synchronized void run() {
+        if (state != DrainState.draining) {
+            return;
+        }
+        if (executor.isTerminated()) {
+            end(DrainState.drained);
+        } else if (System.currentTimeMillis() - startMillis >= timeoutMillis) {
+            end(DrainState.timedOut);
+        }
+    }
+
+    private void end(final DrainState endState) {
+        if (endState == DrainState.cancelled && diverting != null) {
+            restoreRejectedExecutionHandler();
+        }
+        state = endState;
+        endMillis = System.currentTimeMillis();
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    private void restoreRejectedExecutionHandler() {
+        // the counting handler is shared with the next pool of a ThreadPoolTaskExecutor
+        if (counting != null && counting.getDelegate() == diverting) {
+            counting.setDelegate(diverting.getDelegate());
+        } else if (executor.getRejectedExecutionHandler() == diverting) {
+            executor.setRejectedExecutionHandler(diverting.getDelegate());
+        }
+    }
+
+    /**
+     * @return
+     */
+    public synchronized boolean isRunning() {
+        return state == DrainState.draining;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized DrainDTO toDTO() {
+        return new DrainDTO(state,
+                (state == DrainState.draining ? System.currentTimeMillis() : endMillis) - startMillis,
+                timeoutMillis,
+                initialQueued,
+                initialActive,
+                executor.getQueue().size(),
+                executor.getActiveCount(),
+                executor.getCompletedTaskCount() - initialCompleted,
+                targetName,
+                diverting != null ? diverting.getDivertedCount() : 0);
+    }
+
+}
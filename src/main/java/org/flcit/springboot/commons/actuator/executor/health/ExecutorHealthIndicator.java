@@ -0,0 +1,134 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.health;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.executor.rejection.CountingRejectedExecutionHandler;
+import org.flcit.springboot.commons.actuator.executor.warmup.WarmUpState;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+
+/**
+ * Saturation of a thread pool: fill ratio of the queue, active threads and rejection rate.
+ * Only lock free counters are read: the active threads are only known when the executor is instrumented,
+ * {@link ThreadPoolExecutor#getActiveCount()} takes the main lock of the pool and walks its workers.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorHealthIndicator implements HealthIndicator {
+
+    /**
+     * 
+     */
+    public static final Status DEGRADED = new Status("DEGRADED");
+
+    private final Executor executor;
+    private final ExecutorHealthThresholds thresholds;
+    private final Supplier<WarmUpState> warmUpState;
+
+    /**
+     * @param executor
+     * @param thresholds
+     */
+    public ExecutorHealthIndicator(Executor executor, ExecutorHealthThresholds thresholds) {
+        this(executor, thresholds, null);
+    }
+
+    /**
+     * @param executor
+     * @param thresholds
+     * @param warmUpState OUT_OF_SERVICE while warming up
+     */
+    public ExecutorHealthIndicator(Executor executor, ExecutorHealthThresholds thresholds, Supplier<WarmUpState> warmUpState) {
+        this.executor = executor;
+        this.thresholds = thresholds;
+        this.warmUpState = warmUpState;
+    }
+
+    Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Health health() {
+        final ThreadPoolExecutor tpe = getThreadPoolExecutor();
+        if (tpe == null) {
+            return Health.unknown().build();
+        }
+        if (tpe.isShutdown()) {
+            return Health.outOfService().withDetail("shutdown", true).build();
+        }
+        if (warmUpState != null && warmUpState.get() == WarmUpState.warmingUp) {
+            return Health.outOfService().withDetail("warmUp", WarmUpState.warmingUp).build();
+        }
+        final BlockingQueue<Runnable> queue = tpe.getQueue();
+        final int queueSize = queue.size();
+        final long queueCapacity = (long) queueSize + queue.remainingCapacity();
+        final double queueFillRatio = queueCapacity > 0 ? queueSize / (double) queueCapacity : 0;
+        final InstrumentedTaskDecorator instrumentation = CommonsActuatorUtils.getInstrumentation(executor);
+        final Integer activeCount = instrumentation != null ? instrumentation.getStatistics().getActiveCount() : null;
+        final Double activeRatio = activeCount != null ? activeCount / (double) tpe.getMaximumPoolSize() : null;
+        final Double rejectedPerSecond = tpe.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler counting
+                ? counting.getRejectedPerSecond()
+                : null;
+        final Health.Builder builder = new Health.Builder(getStatus(queueFillRatio, activeRatio, rejectedPerSecond))
+                .withDetail("queueSize", queueSize)
+                .withDetail("queueFillRatio", queueFillRatio)
+                .withDetail("maxPoolSize", tpe.getMaximumPoolSize());
+        if (activeCount != null) {
+            builder.withDetail("activeCount", activeCount);
+        }
+        if (rejectedPerSecond != null) {
+            builder.withDetail("rejectedPerSecond", rejectedPerSecond);
+        }
+        return builder.build();
+    }
+
+    private ThreadPoolExecutor getThreadPoolExecutor() {
+        try {
+            return CommonsActuatorUtils.getThreadPoolExecutor(executor);
+        } catch (IllegalStateException e) {
+            // not initialized
+            return null;
+        }
+    }
+
+    private Status getStatus(final double queueFillRatio, final Double activeRatio, final Double rejectedPerSecond) {
+        if (queueFillRatio >= thresholds.getQueueOutOfService()
+                || (rejectedPerSecond != null && rejectedPerSecond >= thresholds.getRejectionRateOutOfService())) {
+            return Status.OUT_OF_SERVICE;
+        }
+        if (queueFillRatio >= thresholds.getQueueDegraded()
+                || (activeRatio != null && activeRatio >= thresholds.getActiveDegraded())
+                || (rejectedPerSecond != null && rejectedPerSecond > thresholds.getRejectionRateDegraded())) {
+            return DEGRADED;
+        }
+        return Status.UP;
+    }
+
+}
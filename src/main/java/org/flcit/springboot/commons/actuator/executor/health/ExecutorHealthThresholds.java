@@ -0,0 +1,98 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.health;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorHealthThresholds {
+
+    private static final String PROPERTY_PREFIX = "management.health.executors.";
+
+    private final double queueDegraded;
+    private final double queueOutOfService;
+    private final double activeDegraded;
+    private final double rejectionRateDegraded;
+    private final double rejectionRateOutOfService;
+
+    /**
+     * @param queueDegraded
+     * @param queueOutOfService
+     * @param activeDegraded
+     * @param rejectionRateDegraded
+     * @param rejectionRateOutOfService
+     */
+    public ExecutorHealthThresholds(double queueDegraded, double queueOutOfService, double activeDegraded, double rejectionRateDegraded, double rejectionRateOutOfService) {
+        this.queueDegraded = queueDegraded;
+        this.queueOutOfService = queueOutOfService;
+        this.activeDegraded = activeDegraded;
+        this.rejectionRateDegraded = rejectionRateDegraded;
+        this.rejectionRateOutOfService = rejectionRateOutOfService;
+    }
+
+    /**
+     * @param environment
+     * @return
+     */
+    public static ExecutorHealthThresholds of(final Environment environment) {
+        return new ExecutorHealthThresholds(
+                environment.getProperty(PROPERTY_PREFIX + "queue-degraded", Double.class, 0.7d),
+                environment.getProperty(PROPERTY_PREFIX + "queue-out-of-service", Double.class, 0.95d),
+                environment.getProperty(PROPERTY_PREFIX + "active-degraded", Double.class, 1d),
+                environment.getProperty(PROPERTY_PREFIX + "rejection-rate-degraded", Double.class, 0d),
+                environment.getProperty(PROPERTY_PREFIX + "rejection-rate-out-of-service", Double.class, 1d));
+    }
+
+    /**
+     * @return fill ratio of the queue
+     */
+    public double getQueueDegraded() {
+        return queueDegraded;
+    }
+
+    /**
+     * @return fill ratio of the queue
+     */
+    public double getQueueOutOfService() {
+        return queueOutOfService;
+    }
+
+    /**
+     * @return ratio of active threads to the maximum pool size
+     */
+    public double getActiveDegraded() {
+        return activeDegraded;
+    }
+
+    /**
+     * @return rejections per second over the last minute, above which the executor is degraded
+     */
+    public double getRejectionRateDegraded() {
+        return rejectionRateDegraded;
+    }
+
+    /**
+     * @return rejections per second over the last minute
+     */
+    public double getRejectionRateOutOfService() {
+        return rejectionRateOutOfService;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.health;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.config.SingletonBeanRegistry;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.NamedContributor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.ObjectUtils;
+
+import org.flcit.springboot.commons.actuator.executor.warmup.WarmUpState;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+
+/**
+ * One {@link ExecutorHealthIndicator} per thread pool executor bean, the beans are listed on each health check:
+ * executors registered or replaced later are seen. Only the singletons already created are checked,
+ * a health check never creates a lazy or prototype executor.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorsHealthContributor implements CompositeHealthContributor {
+
+    private final ApplicationContext context;
+    private final ExecutorHealthThresholds thresholds;
+    private final Function<String, WarmUpState> warmUpStates;
+    private final Map<String, ExecutorHealthIndicator> indicators = new ConcurrentHashMap<>();
+
+    /**
+     * @param context
+     * @param thresholds
+     */
+    public ExecutorsHealthContributor(ApplicationContext context, ExecutorHealthThresholds thresholds) {
+        this(context, thresholds, null);
+    }
+
+    /**
+     * @param context
+     * @param thresholds
+     * @param warmUpStates warm-up state by executor name
+     */
+    public ExecutorsHealthContributor(ApplicationContext context, ExecutorHealthThresholds thresholds, Function<String, WarmUpState> warmUpStates) {
+        this.context = context;
+        this.thresholds = thresholds;
+        this.warmUpStates = warmUpStates;
+    }
+
+    private ExecutorHealthIndicator getIndicator(final String name, final Executor executor) {
+        if (!isThreadPool(executor)) {
+            indicators.remove(name);
+            return null;
+        }
+        final ExecutorHealthIndicator indicator = indicators.get(name);
+        if (indicator != null && indicator.getExecutor() == executor) {
+            return indicator;
+        }
+        final ExecutorHealthIndicator created = new ExecutorHealthIndicator(executor, thresholds,
+                warmUpStates != null ? () -> warmUpStates.apply(name) : null);
+        indicators.put(name, created);
+        return created;
+    }
+
+    private Map<String, Executor> getExecutors() {
+        final String[] names = getExecutorNames();
+        final Map<String, Executor> executors = new LinkedHashMap<>(names.length * 2);
+        for (String name : names) {
+            final Executor executor = getExecutor(name);
+            if (executor != null) {
+                executors.put(name, executor);
+            }
+        }
+        indicators.keySet().retainAll(executors.keySet());
+        return executors;
+    }
+
+    private String[] getExecutorNames() {
+        // singletons only, without eager initialization: names cached by the bean factory once its configuration is frozen
+        return context.getBeanNamesForType(Executor.class, false, false);
+    }
+
+    private Executor getExecutor(final String name) {
+        // lazy singletons not created yet
+        if (context.getAutowireCapableBeanFactory() instanceof SingletonBeanRegistry registry && !registry.containsSingleton(name)) {
+            return null;
+        }
+        return context.getBean(name, Executor.class);
+    }
+
+    private static final boolean isThreadPool(final Executor executor) {
+        return executor instanceof ThreadPoolTaskExecutor
+                || executor instanceof ThreadPoolTaskScheduler
+                || CommonsActuatorUtils.unwrap(executor) instanceof ThreadPoolExecutor;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public HealthContributor getContributor(String name) {
+        final Executor executor = ObjectUtils.containsElement(getExecutorNames(), name) ? getExecutor(name) : null;
+        return executor != null ? getIndicator(name, executor) : null;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Iterator<NamedContributor<HealthContributor>> iterator() {
+        return getExecutors().entrySet().stream()
+                .map(entry -> {
+                    final ExecutorHealthIndicator indicator = getIndicator(entry.getKey(), entry.getValue());
+                    return indicator != null ? NamedContributor.<HealthContributor>of(entry.getKey(), indicator) : null;
+                })
+                .filter(Objects::nonNull)
+                .iterator();
+    }
+
+}
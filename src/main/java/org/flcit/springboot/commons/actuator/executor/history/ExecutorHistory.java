@@ -0,0 +1,142 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.history;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.ExecutorStatistics;
+
+/**
+ * Fixed-size ring buffers of executor samples stored in primitive arrays.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorHistory {
+
+    private final long[] timestamps;
+    private final int[] activeCounts;
+    private final int[] poolSizes;
+    private final int[] queueSizes;
+    private final long[] completedTaskCounts;
+    private int next;
+    private int size;
+    private long lastCompletedTaskCount = -1;
+    private long failureCount;
+    private String lastFailure;
+    private boolean failing;
+
+    /**
+     * @param capacity
+     */
+    public ExecutorHistory(final int capacity) {
+        this.timestamps = new long[capacity];
+        this.activeCounts = new int[capacity];
+        this.poolSizes = new int[capacity];
+        this.queueSizes = new int[capacity];
+        this.completedTaskCounts = new long[capacity];
+    }
+
+    /**
+     * @param timestamp
+     * @param executor
+     * @param statistics
+     */
+    public void record(final long timestamp, final ThreadPoolExecutor executor, final ExecutorStatistics statistics) {
+        if (statistics != null) {
+            record(timestamp, statistics.getActiveCount(), statistics.getPoolSize(), executor.getQueue().size(), statistics.getCompletedTaskCount());
+        } else {
+            record(timestamp, executor.getActiveCount(), executor.getPoolSize(), executor.getQueue().size(), executor.getCompletedTaskCount());
+        }
+    }
+
+    synchronized void record(final long timestamp, final int activeCount, final int poolSize, final int queueSize, final long completedTaskCount) {
+        timestamps[next] = timestamp;
+        activeCounts[next] = activeCount;
+        poolSizes[next] = poolSize;
+        queueSizes[next] = queueSize;
+        completedTaskCounts[next] = lastCompletedTaskCount < 0 ? 0 : Math.max(0, completedTaskCount - lastCompletedTaskCount);
+        lastCompletedTaskCount = completedTaskCount;
+        next = (next + 1) % timestamps.length;
+        size = Math.min(size + 1, timestamps.length);
+    }
+
+    /**
+     * @param e
+     * @return true if the previous sampling succeeded
+     */
+    public synchronized boolean fail(final RuntimeException e) {
+        failureCount++;
+        lastFailure = e.toString();
+        final boolean first = !failing;
+        failing = true;
+        return first;
+    }
+
+    /**
+     * @return true if the previous sampling failed
+     */
+    public synchronized boolean recover() {
+        final boolean recovered = failing;
+        failing = false;
+        return recovered;
+    }
+
+    /**
+     * @param from
+     * @param points
+     * @return
+     */
+    public synchronized ExecutorHistoryDTO toDTO(final long from, final int points) {
+        final int first = firstIndexFrom(from);
+        final int count = size - first;
+        final int bucketSize = Math.max(1, (count + points - 1) / Math.max(1, points));
+        final ExecutorHistoryDTO history = new ExecutorHistoryDTO((count + bucketSize - 1) / bucketSize);
+        for (int i = first; i < size; i += bucketSize) {
+            final int end = Math.min(size, i + bucketSize);
+            long timestamp = 0;
+            int activeCount = 0;
+            int poolSize = 0;
+            int queueSize = 0;
+            long completedTaskCount = 0;
+            for (int j = i; j < end; j++) {
+                final int index = index(j);
+                timestamp = timestamps[index];
+                activeCount = Math.max(activeCount, activeCounts[index]);
+                poolSize = Math.max(poolSize, poolSizes[index]);
+                queueSize = Math.max(queueSize, queueSizes[index]);
+                completedTaskCount += completedTaskCounts[index];
+            }
+            history.add(timestamp, activeCount, poolSize, queueSize, completedTaskCount);
+        }
+        history.setFailure(failureCount, lastFailure);
+        return history;
+    }
+
+    private int firstIndexFrom(final long from) {
+        int i = 0;
+        while (i < size && timestamps[index(i)] < from) {
+            i++;
+        }
+        return i;
+    }
+
+    private int index(final int i) {
+        return (next - size + i + timestamps.length) % timestamps.length;
+    }
+
+}
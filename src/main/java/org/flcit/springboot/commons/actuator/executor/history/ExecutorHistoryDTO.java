@@ -0,0 +1,106 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.history;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorHistoryDTO {
+
+    private final long[] timestamps;
+    private final int[] activeCounts;
+    private final int[] poolSizes;
+    private final int[] queueSizes;
+    private final long[] completedTaskCounts;
+    private int size;
+    private long failureCount;
+    private String lastFailure;
+
+    ExecutorHistoryDTO(final int size) {
+        this.timestamps = new long[size];
+        this.activeCounts = new int[size];
+        this.poolSizes = new int[size];
+        this.queueSizes = new int[size];
+        this.completedTaskCounts = new long[size];
+    }
+
+    void add(final long timestamp, final int activeCount, final int poolSize, final int queueSize, final long completedTaskCount) {
+        timestamps[size] = timestamp;
+        activeCounts[size] = activeCount;
+        poolSizes[size] = poolSize;
+        queueSizes[size] = queueSize;
+        completedTaskCounts[size] = completedTaskCount;
+        size++;
+    }
+
+    void setFailure(final long failureCount, final String lastFailure) {
+        this.failureCount = failureCount;
+        this.lastFailure = lastFailure;
+    }
+
+    /**
+     * @return
+     */
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * @return
+     */
+    public int[] getActiveCounts() {
+        return activeCounts;
+    }
+
+    /**
+     * @return
+     */
+    public int[] getPoolSizes() {
+        return poolSizes;
+    }
+
+    /**
+     * @return
+     */
+    public int[] getQueueSizes() {
+        return queueSizes;
+    }
+
+    /**
+     * @return
+     */
+    public long[] getCompletedTaskCounts() {
+        return completedTaskCounts;
+    }
+
+    /**
+     * @return
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return
+     */
+    public String getLastFailure() {
+        return lastFailure;
+    }
+
+}
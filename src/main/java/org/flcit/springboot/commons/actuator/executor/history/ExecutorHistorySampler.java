@@ -0,0 +1,138 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.history;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorHistorySampler implements Runnable {
+
+    private static final Log LOG = LogFactory.getLog(ExecutorHistorySampler.class);
+
+    private final Supplier<Map<String, Executor>> executors;
+    private final int capacity;
+    private final long intervalMillis;
+    private final Map<String, ExecutorHistory> histories = new ConcurrentHashMap<>();
+    private final Map<String, Executor> sampledExecutors = new ConcurrentHashMap<>();
+    private volatile boolean listingFailing;
+
+    /**
+     * @param executors
+     * @param capacity
+     * @param intervalMillis
+     */
+    public ExecutorHistorySampler(final Supplier<Map<String, Executor>> executors, final int capacity, final long intervalMillis) {
+        this.executors = executors;
+        this.capacity = capacity;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void run() {
+        // an exception escaping a periodic task silently cancels every next execution
+        final long timestamp = System.currentTimeMillis();
+        final Map<String, Executor> current;
+        try {
+            current = executors.get();
+        } catch (RuntimeException e) {
+            // logged once until the listing recovers
+            if (!listingFailing) {
+                listingFailing = true;
+                LOG.warn("Executor history sampling failed", e);
+            }
+            return;
+        }
+        listingFailing = false;
+        // histories of the executors no longer listed
+        histories.keySet().retainAll(current.keySet());
+        sampledExecutors.keySet().retainAll(current.keySet());
+        for (Entry<String, Executor> entry : current.entrySet()) {
+            final ExecutorHistory history = getHistory(entry.getKey(), entry.getValue());
+            try {
+                final ThreadPoolExecutor tpe = getThreadPoolExecutor(entry.getValue());
+                if (tpe != null) {
+                    final InstrumentedTaskDecorator instrumentation = CommonsActuatorUtils.getInstrumentation(entry.getValue());
+                    history.record(timestamp, tpe, instrumentation != null ? instrumentation.getStatistics() : null);
+                }
+                if (history.recover()) {
+                    LOG.info("Executor history sampling recovered for " + entry.getKey());
+                }
+            } catch (RuntimeException e) {
+                // logged once until the executor recovers
+                if (history.fail(e)) {
+                    LOG.warn("Executor history sampling failed for " + entry.getKey(), e);
+                }
+            }
+        }
+    }
+
+    private ExecutorHistory getHistory(final String name, final Executor executor) {
+        // a bean recreated under the same name starts a new history
+        if (sampledExecutors.put(name, executor) != executor) {
+            final ExecutorHistory history = new ExecutorHistory(capacity);
+            histories.put(name, history);
+            return history;
+        }
+        return histories.computeIfAbsent(name, k -> new ExecutorHistory(capacity));
+    }
+
+    private static final ThreadPoolExecutor getThreadPoolExecutor(final Executor executor) {
+        try {
+            return CommonsActuatorUtils.getThreadPoolExecutor(executor);
+        } catch (IllegalStateException e) {
+            // not initialized
+            return null;
+        }
+    }
+
+    /**
+     * @param name
+     * @param windowMillis
+     * @param points
+     * @return
+     */
+    public ExecutorHistoryDTO getHistory(final String name, final long windowMillis, final int points) {
+        final ExecutorHistory history = histories.get(name);
+        return history != null ? history.toDTO(System.currentTimeMillis() - windowMillis, points) : null;
+    }
+
+    /**
+     * @return
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.instrument;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import org.flcit.springboot.commons.actuator.executor.rejection.CountingRejectedExecutionHandler;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+import org.flcit.commons.core.util.ReflectionUtils;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorInstrumentationBeanPostProcessor implements BeanPostProcessor {
+
+    private static final String FIELD_THREAD_FACTORY = "threadFactory";
+
+    private final boolean asyncMethods;
+
+    /**
+     * 
+     */
+    public ExecutorInstrumentationBeanPostProcessor() {
+        this(true);
+    }
+
+    /**
+     * @param asyncMethods true to find the {@code @Async} methods on the stack of the submitting thread
+     */
+    public ExecutorInstrumentationBeanPostProcessor(final boolean asyncMethods) {
+        this.asyncMethods = asyncMethods;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            threadPoolTaskExecutor.setTaskDecorator(instrument(threadPoolTaskExecutor));
+        } else if (bean instanceof ThreadPoolTaskScheduler threadPoolTaskScheduler) {
+            threadPoolTaskScheduler.setTaskDecorator(instrument(threadPoolTaskScheduler));
+        }
+        return bean;
+    }
+
+    private InstrumentedTaskDecorator instrument(final ExecutorConfigurationSupport executor) {
+        final TaskDecorator taskDecorator = ReflectionUtils.getSafeFieldValue(executor, CommonsActuatorUtils.FIELD_TASK_DECORATOR, TaskDecorator.class);
+        if (taskDecorator instanceof InstrumentedTaskDecorator instrumentedTaskDecorator) {
+            return instrumentedTaskDecorator;
+        }
+        final InstrumentedTaskDecorator instrumentedTaskDecorator = new InstrumentedTaskDecorator(taskDecorator, asyncMethods);
+        final ThreadFactory threadFactory = ReflectionUtils.getSafeFieldValue(executor, FIELD_THREAD_FACTORY, ThreadFactory.class);
+        executor.setThreadFactory(new InstrumentedThreadFactory(threadFactory != null ? threadFactory : executor, instrumentedTaskDecorator));
+        final RejectedExecutionHandler rejectedExecutionHandler = ReflectionUtils.getSafeFieldValue(executor, CommonsActuatorUtils.FIELD_REJECTED_EXECUTION_HANDLER, RejectedExecutionHandler.class);
+        if (!(rejectedExecutionHandler instanceof CountingRejectedExecutionHandler)) {
+            executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(rejectedExecutionHandler));
+        }
+        return instrumentedTaskDecorator;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.instrument;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorStatistics {
+
+    private final LongAdder submittedTaskCount = new LongAdder();
+    private final LongAdder completedTaskCount = new LongAdder();
+    private final LongAdder failedTaskCount = new LongAdder();
+    private final LongAdder activeCount = new LongAdder();
+    private final LongAdder poolSize = new LongAdder();
+    private final LongAccumulator largestPoolSize = new LongAccumulator(Math::max, 0);
+
+    void taskSubmitted() {
+        submittedTaskCount.increment();
+    }
+
+    void taskStarted() {
+        activeCount.increment();
+    }
+
+    void taskCompleted(final boolean failed) {
+        activeCount.decrement();
+        completedTaskCount.increment();
+        if (failed) {
+            failedTaskCount.increment();
+        }
+    }
+
+    void threadStarted() {
+        poolSize.increment();
+        largestPoolSize.accumulate(poolSize.sum());
+    }
+
+    void threadTerminated() {
+        poolSize.decrement();
+    }
+
+    /**
+     * @return
+     */
+    public long getSubmittedTaskCount() {
+        return submittedTaskCount.sum();
+    }
+
+    /**
+     * @return
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+
+    /**
+     * @return
+     */
+    public long getFailedTaskCount() {
+        return failedTaskCount.sum();
+    }
+
+    /**
+     * @return
+     */
+    public int getActiveCount() {
+        return (int) Math.max(0, activeCount.sum());
+    }
+
+    /**
+     * @return
+     */
+    public int getPoolSize() {
+        return (int) Math.max(0, poolSize.sum());
+    }
+
+    /**
+     * @return
+     */
+    public int getLargestPoolSize() {
+        return (int) largestPoolSize.get();
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.instrument;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.flcit.springboot.commons.actuator.executor.queue.Prioritized;
+
+/**
+ * Task of an instrumented executor, carrying the type and the priority resolved once at submission.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class InstrumentedTask implements Runnable, Prioritized {
+
+    private final InstrumentedTaskDecorator instrumentation;
+    private final Runnable task;
+    private final Runnable original;
+    private final long submitNanos;
+    private final ScheduledTaskStatistics scheduledStatistics;
+    private final TaskTypeStatistics taskType;
+    private final int priority;
+    private volatile long startNanos;
+    private volatile Thread thread;
+
+    InstrumentedTask(final InstrumentedTaskDecorator instrumentation, final Runnable task, final Runnable original,
+            final TaskTypeStatistics taskType, final int priority) {
+        this.instrumentation = instrumentation;
+        this.task = task;
+        this.original = original;
+        this.submitNanos = System.nanoTime();
+        this.scheduledStatistics = isPeriodic(original) ? new ScheduledTaskStatistics() : null;
+        this.taskType = taskType;
+        this.priority = priority;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void run() {
+        final long startNanos = System.nanoTime();
+        final long queueWaitNanos = queueWait(startNanos);
+        this.thread = Thread.currentThread();
+        this.startNanos = startNanos;
+        instrumentation.taskStarted(this, queueWaitNanos);
+        boolean failed = true;
+        try {
+            task.run();
+            failed = false;
+        } finally {
+            final long endNanos = System.nanoTime();
+            final long executionNanos = endNanos - startNanos;
+            instrumentation.taskCompleted(this, executionNanos, endNanos, failed);
+            taskType.record(queueWaitNanos, executionNanos, failed);
+            this.thread = null;
+            if (scheduledStatistics != null) {
+                // the periodic task has been rearmed: a next trigger time already passed is an overrun
+                scheduledStatistics.record(System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(executionNanos), queueWaitNanos, executionNanos,
+                        isOverrun((RunnableScheduledFuture<?>) original));
+            }
+        }
+    }
+
+    private static final boolean isOverrun(final RunnableScheduledFuture<?> future) {
+        return !future.isDone() && future.getDelay(TimeUnit.NANOSECONDS) <= 0;
+    }
+
+    private static final boolean isPeriodic(final Runnable runnable) {
+        return runnable instanceof RunnableScheduledFuture<?> future && future.isPeriodic();
+    }
+
+    private long queueWait(final long startNanos) {
+        // periodic tasks of a scheduler are run several times: measure the lateness against the trigger time
+        if (original instanceof Delayed delayed) {
+            return Math.max(0, -delayed.getDelay(TimeUnit.NANOSECONDS));
+        }
+        return startNanos - submitNanos;
+    }
+
+    InstrumentedTaskDecorator getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * @return the task decorated by the delegate decorator, without instrumentation
+     */
+    public Runnable getTask() {
+        return task;
+    }
+
+    /**
+     * @return
+     */
+    public Runnable getOriginal() {
+        return original;
+    }
+
+    /**
+     * @return null if the task is not a periodic task of a scheduler
+     */
+    public ScheduledTaskStatistics getScheduledStatistics() {
+        return scheduledStatistics;
+    }
+
+    /**
+     * @return
+     */
+    public TaskTypeStatistics getTaskType() {
+        return taskType;
+    }
+
+    /**
+     * @return priority resolved at submission
+     */
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * @return
+     */
+    public long getSubmitNanos() {
+        return submitNanos;
+    }
+
+    /**
+     * @return start of the current execution
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * @return thread running the task or null if not running
+     */
+    public Thread getThread() {
+        return thread;
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.instrument;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.core.task.TaskDecorator;
+
+import org.flcit.springboot.commons.actuator.executor.queue.TaskPriorities;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class InstrumentedTaskDecorator implements TaskDecorator {
+
+    private static final int INTER_ARRIVAL_SAMPLING = 8;
+    private static final long WORKLOAD_PERIOD_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final TaskDecorator delegate;
+    private final ExecutorStatistics statistics = new ExecutorStatistics();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram execution = new LatencyHistogram();
+    private final WindowedHistogram interArrival = new WindowedHistogram(WORKLOAD_PERIOD_NANOS);
+    private final WindowedHistogram recentExecution = new WindowedHistogram(WORKLOAD_PERIOD_NANOS);
+    private final AtomicLong markNanos = new AtomicLong();
+    private final TaskTypes taskTypes;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final Set<InstrumentedTask> runningTasks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param delegate
+     */
+    public InstrumentedTaskDecorator(final TaskDecorator delegate) {
+        this(delegate, true);
+    }
+
+    /**
+     * @param delegate
+     * @param asyncMethods true to find the {@code @Async} methods on the stack of the submitting thread
+     */
+    public InstrumentedTaskDecorator(final TaskDecorator delegate, final boolean asyncMethods) {
+        this.delegate = delegate;
+        this.taskTypes = new TaskTypes(asyncMethods);
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Runnable decorate(final Runnable runnable) {
+        if (runnable instanceof InstrumentedTask instrumentedTask && instrumentedTask.getInstrumentation() == this) {
+            // adopted from another executor, then executed through this one
+            return runnable;
+        }
+        statistics.taskSubmitted();
+        sampleInterArrival();
+        // resolved once, on the submitting thread
+        final String taskClass = TaskTypes.getTaskClass(runnable);
+        final StackFrame asyncFrame = taskTypes.findAsyncFrame(runnable, taskClass);
+        return new InstrumentedTask(this, delegate != null ? delegate.decorate(runnable) : runnable, runnable,
+                taskTypes.get(asyncFrame != null ? TaskTypes.getTaskType(asyncFrame) : taskClass),
+                TaskPriorities.getPriority(runnable, asyncFrame));
+    }
+
+    private void sampleInterArrival() {
+        // a random submission is marked, the time until the next submission is recorded:
+        // the shared mark is only written by the sampled submissions, the others read it
+        final long nanos = System.nanoTime();
+        final long mark = markNanos.get();
+        if (mark != 0) {
+            if (nanos - mark >= 0 && markNanos.compareAndSet(mark, 0)) {
+                interArrival.record(nanos - mark, nanos);
+            }
+        } else if (ThreadLocalRandom.current().nextInt(INTER_ARRIVAL_SAMPLING) == 0) {
+            markNanos.compareAndSet(0, nanos);
+        }
+    }
+
+    /**
+     * @param task task of another executor, already decorated by its delegate decorator
+     * @return the task instrumented by this executor, with the type and the priority resolved at its submission
+     */
+    public Runnable adopt(final InstrumentedTask task) {
+        statistics.taskSubmitted();
+        return new InstrumentedTask(this, task.getTask(), task.getOriginal(), taskTypes.get(task.getTaskType().getType()), task.getPriority());
+    }
+
+    void threadStarted(final Thread thread) {
+        threads.add(thread);
+        statistics.threadStarted();
+    }
+
+    void threadTerminated(final Thread thread) {
+        threads.remove(thread);
+        statistics.threadTerminated();
+    }
+
+    void taskStarted(final InstrumentedTask task, final long queueWaitNanos) {
+        statistics.taskStarted();
+        queueWait.record(queueWaitNanos);
+        runningTasks.add(task);
+    }
+
+    void taskCompleted(final InstrumentedTask task, final long executionNanos, final long endNanos, final boolean failed) {
+        execution.record(executionNanos);
+        recentExecution.record(executionNanos, endNanos);
+        statistics.taskCompleted(failed);
+        runningTasks.remove(task);
+    }
+
+    /**
+     * @return
+     */
+    public TaskDecorator getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return
+     */
+    public ExecutorStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return
+     */
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    /**
+     * @return
+     */
+    public LatencyHistogram getExecution() {
+        return execution;
+    }
+
+    /**
+     * @return time between two submissions, sampled on one submission out of {@value #INTER_ARRIVAL_SAMPLING} on average,
+     * during the last 5 to 10 minutes
+     */
+    public WindowedHistogram getInterArrival() {
+        return interArrival;
+    }
+
+    /**
+     * @return execution time during the last 5 to 10 minutes
+     */
+    public WindowedHistogram getRecentExecution() {
+        return recentExecution;
+    }
+
+    /**
+     * Restarts the recording of the workload replayed by the capacity simulation.
+     */
+    public void resetWorkload() {
+        interArrival.reset();
+        recentExecution.reset();
+    }
+
+    /**
+     * @return
+     */
+    public TaskTypes getTaskTypes() {
+        return taskTypes;
+    }
+
+    /**
+     * @return
+     */
+    public Set<Thread> getThreads() {
+        return Collections.unmodifiableSet(threads);
+    }
+
+    /**
+     * @return tasks currently running
+     */
+    public Set<InstrumentedTask> getRunningTasks() {
+        return Collections.unmodifiableSet(runningTasks);
+    }
+
+    /**
+     * @return periodic tasks of a scheduler currently running
+     */
+    public Set<InstrumentedTask> getRunningScheduledTasks() {
+        return runningTasks.stream()
+                .filter(task -> task.getScheduledStatistics() != null)
+                .collect(Collectors.toSet());
+    }
+
+}
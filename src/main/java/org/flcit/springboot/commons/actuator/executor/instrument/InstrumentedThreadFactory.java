@@ -0,0 +1,72 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.instrument;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class InstrumentedThreadFactory implements ThreadFactory {
+
+    private final ThreadFactory delegate;
+    private final InstrumentedTaskDecorator instrumentation;
+
+    /**
+     * @param delegate
+     * @param instrumentation
+     */
+    public InstrumentedThreadFactory(final ThreadFactory delegate, final InstrumentedTaskDecorator instrumentation) {
+        this.delegate = delegate;
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        return delegate.newThread(() -> run(runnable));
+    }
+
+    private void run(final Runnable runnable) {
+        final Thread thread = Thread.currentThread();
+        instrumentation.threadStarted(thread);
+        try {
+            runnable.run();
+        } finally {
+            instrumentation.threadTerminated(thread);
+        }
+    }
+
+    /**
+     * @return
+     */
+    public ThreadFactory getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return
+     */
+    public InstrumentedTaskDecorator getInstrumentation() {
+        return instrumentation;
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.instrument;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Log-linear histogram of nanosecond values: each power of two is split
+ * into {@value #SUB_BUCKET_COUNT} linear sub-buckets (relative error below 7%).
+ * Recording never allocates.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param value
+     */
+    public void record(final long value) {
+        final long v = Math.max(0, value);
+        buckets.incrementAndGet(index(v));
+        count.increment();
+        total.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * @param other histogram whose values are added to this one
+     */
+    public void add(final LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            final long value = other.buckets.get(i);
+            if (value != 0) {
+                buckets.addAndGet(i, value);
+            }
+        }
+        count.add(other.getCount());
+        total.add(other.getTotal());
+        max.accumulate(other.getMax());
+    }
+
+    /**
+     * @return
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * @return
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100d * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += buckets.get(i);
+            if (cumulative >= rank) {
+                return Math.min(highestEquivalentValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * @param random
+     * @return supplier of values drawn from a snapshot of the recorded distribution, uniformly within each bucket
+     */
+    public LongSupplier sampler(final Random random) {
+        final long[] cumulative = new long[BUCKET_COUNT];
+        long sum = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            sum += buckets.get(i);
+            cumulative[i] = sum;
+        }
+        if (sum == 0) {
+            return () -> 0;
+        }
+        final long total = sum;
+        return () -> {
+            final long rank = (long) (random.nextDouble() * total) + 1;
+            int index = Arrays.binarySearch(cumulative, rank);
+            if (index < 0) {
+                index = -index - 1;
+            } else {
+                // first bucket reaching the rank
+                while (index > 0 && cumulative[index - 1] == rank) {
+                    index--;
+                }
+            }
+            final long lowest = index == 0 ? 0 : highestEquivalentValue(index - 1) + 1;
+            return lowest + (long) (random.nextDouble() * (highestEquivalentValue(index) - lowest + 1));
+        };
+    }
+
+    static int index(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & SUB_BUCKET_MASK);
+    }
+
+    static long highestEquivalentValue(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        final long subBucket = SUB_BUCKET_COUNT + (index & SUB_BUCKET_MASK);
+        return ((subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.instrument;
+
+/**
+ * Start lag and overruns of a periodic task: an overrun is an execution that ends after the next trigger time (fixed rate).
+ * With a fixed delay the drift shows up as start lag.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class ScheduledTaskStatistics {
+
+    private long executionCount;
+    private long overrunCount;
+    private long lastStartMillis;
+    private long lastLagNanos;
+    private long maxLagNanos;
+    private long lastDurationNanos;
+    private long maxDurationNanos;
+
+    synchronized void record(final long startMillis, final long lagNanos, final long durationNanos, final boolean overrun) {
+        executionCount++;
+        if (overrun) {
+            overrunCount++;
+        }
+        lastStartMillis = startMillis;
+        lastLagNanos = lagNanos;
+        maxLagNanos = Math.max(maxLagNanos, lagNanos);
+        lastDurationNanos = durationNanos;
+        maxDurationNanos = Math.max(maxDurationNanos, durationNanos);
+    }
+
+    /**
+     * @return
+     */
+    public synchronized long getExecutionCount() {
+        return executionCount;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized long getOverrunCount() {
+        return overrunCount;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized long getLastStartMillis() {
+        return lastStartMillis;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized long getLastLagNanos() {
+        return lastLagNanos;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized long getMaxLagNanos() {
+        return maxLagNanos;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized long getLastDurationNanos() {
+        return lastDurationNanos;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized long getMaxDurationNanos() {
+        return maxDurationNanos;
+    }
+
+}
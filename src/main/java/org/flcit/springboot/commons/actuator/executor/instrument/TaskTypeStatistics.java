@@ -0,0 +1,79 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.instrument;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class TaskTypeStatistics {
+
+    private final String type;
+    private final LongAdder failedCount = new LongAdder();
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram execution = new LatencyHistogram();
+
+    TaskTypeStatistics(final String type) {
+        this.type = type;
+    }
+
+    void record(final long queueWaitNanos, final long executionNanos, final boolean failed) {
+        queueWait.record(queueWaitNanos);
+        execution.record(executionNanos);
+        if (failed) {
+            failedCount.increment();
+        }
+    }
+
+    /**
+     * @return
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return
+     */
+    public long getCount() {
+        return execution.getCount();
+    }
+
+    /**
+     * @return
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * @return
+     */
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    /**
+     * @return
+     */
+    public LatencyHistogram getExecution() {
+        return execution;
+    }
+
+}
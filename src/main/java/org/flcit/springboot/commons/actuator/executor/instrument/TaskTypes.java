@@ -0,0 +1,265 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.instrument;
+
+import java.lang.StackWalker.StackFrame;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableScheduledFuture;
+
+import org.springframework.scheduling.support.DelegatingErrorHandlingRunnable;
+import org.springframework.scheduling.support.ScheduledMethodRunnable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import org.flcit.springboot.commons.actuator.executor.scheduled.ScheduledFutures;
+
+/**
+ * Statistics by task type: the class of the task, the scheduled method or the {@code @Async} method.
+ * The number of types is bounded, the tasks of any further type are recorded under {@value #OTHER}.
+ * <p>
+ * The task wrapped by a {@link FutureTask} (tasks submitted with {@code submit}, tasks of a scheduler) is only reachable
+ * when {@code java.util.concurrent} is opened to the application ({@code --add-opens java.base/java.util.concurrent=ALL-UNNAMED}),
+ * otherwise the type is the class of the future, except for the periodic tasks of a scheduler described once at scheduling.
+ * The {@code @Async} methods are found by walking the top of the stack of the submitting thread, only for the tasks which may
+ * be submitted by Spring {@code @Async} support (enabled by default).
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class TaskTypes {
+
+    /**
+     * 
+     */
+    public static final String OTHER = "other";
+
+    private static final int MAX_TYPES = 100;
+    private static final int MAX_ASYNC_STACK_DEPTH = 32;
+    private static final String ASYNC_INTERCEPTOR = "org.springframework.aop.interceptor.AsyncExecution";
+    private static final String ASYNC_SUPPLY = "java.util.concurrent.CompletableFuture$AsyncSupply";
+    private static final String AOP_PACKAGE = "org.springframework.aop.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final Field FIELD_CALLABLE = getField(FutureTask.class, "callable");
+    private static final Class<?> RUNNABLE_ADAPTER = Executors.callable(() -> { }).getClass();
+    private static final Field FIELD_ADAPTED_TASK = getField(RUNNABLE_ADAPTER, "task");
+    private static final Field FIELD_DELEGATE = getField(DelegatingErrorHandlingRunnable.class, "delegate");
+    private static final ClassValue<String> CLASS_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            return getClassName(type.getName());
+        }
+    };
+    private static final ClassValue<Map<String, String>> METHOD_NAMES = new ClassValue<>() {
+        @Override
+        protected Map<String, String> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Map<String, TaskTypeStatistics> types = new ConcurrentHashMap<>();
+    private final boolean asyncMethods;
+
+    /**
+     * 
+     */
+    public TaskTypes() {
+        this(true);
+    }
+
+    /**
+     * @param asyncMethods true to find the {@code @Async} methods on the stack of the submitting thread
+     */
+    public TaskTypes(final boolean asyncMethods) {
+        this.asyncMethods = asyncMethods;
+    }
+
+    TaskTypeStatistics get(final String type) {
+        final TaskTypeStatistics statistics = types.get(type);
+        if (statistics != null) {
+            return statistics;
+        }
+        return types.computeIfAbsent(types.size() < MAX_TYPES ? type : OTHER, TaskTypeStatistics::new);
+    }
+
+    /**
+     * @return
+     */
+    public Collection<TaskTypeStatistics> getTypes() {
+        return Collections.unmodifiableCollection(types.values());
+    }
+
+    /**
+     * @return true if the {@code @Async} methods are found on the stack of the submitting thread
+     */
+    public boolean isAsyncMethods() {
+        return asyncMethods;
+    }
+
+    /**
+     * Must be called from the thread submitting the task.
+     *
+     * @param task
+     * @param taskClass class returned by {@link #getTaskClass(Runnable)}
+     * @return frame of the {@code @Async} method submitting the task, null if not found or if the {@code @Async} methods are not searched
+     */
+    StackFrame findAsyncFrame(final Runnable task, final String taskClass) {
+        // submitted by AsyncExecutionInterceptor from the caller thread: the proxied method is on the stack
+        return asyncMethods && isAsyncCandidate(task, taskClass) ? getAsyncFrame() : null;
+    }
+
+    /**
+     * Must be called from the thread submitting the task.
+     *
+     * @param task
+     * @param asyncMethods true to find the {@code @Async} methods on the stack of the submitting thread
+     * @return class of the task or, for futures, of the wrapped task. Methods for Spring {@code @Async} and scheduled tasks.
+     */
+    public static String getTaskType(final Runnable task, final boolean asyncMethods) {
+        final String type = getTaskClass(task);
+        final StackFrame frame = asyncMethods && isAsyncCandidate(task, type) ? getAsyncFrame() : null;
+        return frame != null ? getTaskType(frame) : type;
+    }
+
+    /**
+     * @param asyncFrame frame of the {@code @Async} method
+     * @return {@code @Async} method called on the proxy
+     */
+    public static String getTaskType(final StackFrame asyncFrame) {
+        return getMethodName(asyncFrame.getDeclaringClass(), asyncFrame.getMethodName());
+    }
+
+    /**
+     * @param taskClass
+     * @return true if the task is submitted by Spring {@code @Async} support
+     */
+    public static boolean isAsyncTask(final String taskClass) {
+        return taskClass.startsWith(ASYNC_INTERCEPTOR) || taskClass.equals(ASYNC_SUPPLY);
+    }
+
+    /**
+     * @param task
+     * @param taskClass class returned by {@link #getTaskClass(Runnable)}
+     * @return true if the task is or may be (future not reachable) submitted by Spring {@code @Async} support
+     */
+    public static boolean isAsyncCandidate(final Runnable task, final String taskClass) {
+        return isAsyncTask(taskClass)
+                || task.getClass() == FutureTask.class && FIELD_CALLABLE == null;
+    }
+
+    /**
+     * @param task
+     * @return class of the task or, for futures, of the wrapped task when reachable. Methods for Spring scheduled tasks.
+     */
+    public static String getTaskClass(final Runnable task) {
+        final Object unwrapped = getWrappedTask(task);
+        if (unwrapped instanceof ScheduledMethodRunnable scheduledMethodRunnable) {
+            final Method method = scheduledMethodRunnable.getMethod();
+            return getMethodName(method.getDeclaringClass(), method.getName());
+        }
+        if (unwrapped == task && task instanceof RunnableScheduledFuture<?> future && future.isPeriodic()) {
+            // described once at scheduling, not at each execution
+            return getClassName(getInstanceClassName(ScheduledFutures.getTaskDescription(future)));
+        }
+        return CLASS_NAMES.get(unwrapped.getClass());
+    }
+
+    /**
+     * @param task
+     * @return the task wrapped by a future when reachable, without the error handling of a scheduler, the task itself otherwise
+     */
+    public static Object getWrappedTask(final Runnable task) {
+        Object unwrapped = task;
+        if (task instanceof FutureTask<?> && FIELD_CALLABLE != null) {
+            // null once the future is completed
+            final Object callable = ReflectionUtils.getField(FIELD_CALLABLE, task);
+            if (callable != null) {
+                unwrapped = callable.getClass() == RUNNABLE_ADAPTER && FIELD_ADAPTED_TASK != null
+                        ? ReflectionUtils.getField(FIELD_ADAPTED_TASK, callable)
+                        : callable;
+            }
+        }
+        if (unwrapped instanceof DelegatingErrorHandlingRunnable && FIELD_DELEGATE != null) {
+            unwrapped = ReflectionUtils.getField(FIELD_DELEGATE, unwrapped);
+        }
+        return unwrapped != null ? unwrapped : task;
+    }
+
+    /**
+     * Must be called from the thread submitting the task.
+     *
+     * @return frame of the {@code @Async} method called on the proxy, null if not found
+     */
+    public static StackFrame getAsyncFrame() {
+        return STACK_WALKER.walk(frames -> frames
+                .limit(MAX_ASYNC_STACK_DEPTH)
+                .dropWhile(frame -> !frame.getClassName().startsWith(ASYNC_INTERCEPTOR))
+                .filter(frame -> !frame.getClassName().startsWith(AOP_PACKAGE))
+                .findFirst()
+                .orElse(null));
+    }
+
+    /**
+     * @param proxy
+     * @return first interface of a JDK proxy, user class of a CGLIB proxy
+     */
+    public static Class<?> getProxiedClass(final Class<?> proxy) {
+        if (Proxy.isProxyClass(proxy)) {
+            final Class<?>[] interfaces = proxy.getInterfaces();
+            return interfaces.length > 0 ? interfaces[0] : proxy;
+        }
+        return ClassUtils.getUserClass(proxy);
+    }
+
+    private static final String getMethodName(final Class<?> type, final String methodName) {
+        // cached by call site
+        return METHOD_NAMES.get(type).computeIfAbsent(methodName, name -> getProxiedClass(type).getName() + '#' + name);
+    }
+
+    private static final String getInstanceClassName(final String description) {
+        // default Object#toString: "com.acme.Task@1b6d3586"
+        final int end = description.indexOf('@');
+        return end < 0 ? description : description.substring(0, end);
+    }
+
+    private static final String getClassName(final String className) {
+        // hidden classes of lambdas are suffixed by an address
+        final int index = className.indexOf('/');
+        return index < 0 ? className : className.substring(0, index);
+    }
+
+    private static final Field getField(final Class<?> type, final String name) {
+        final Field field = ReflectionUtils.findField(type, name);
+        if (field == null) {
+            return null;
+        }
+        try {
+            // java.base is not opened by default
+            ReflectionUtils.makeAccessible(field);
+            return field;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.flcit.springboot.commons.actuator.executor.instrument;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Histogram of the values recorded during the current period and the previous one:
+ * the recorded span is between one and two periods, unless reset more recently.
+ * Recording only allocates when a period rotates.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class WindowedHistogram {
+
+    private static final LatencyHistogram EMPTY = new LatencyHistogram();
+
+    private final long periodNanos;
+    private final AtomicReference<Window> window;
+
+    /**
+     * @param periodNanos
+     */
+    public WindowedHistogram(final long periodNanos) {
+        this.periodNanos = periodNanos;
+        this.window = new AtomicReference<>(new Window(System.nanoTime(), new LatencyHistogram(), EMPTY));
+    }
+
+    /**
+     * @param value
+     * @param nanos {@link System#nanoTime()} of the record
+     */
+    public void record(final long value, final long nanos) {
+        rotate(nanos).current.record(value);
+    }
+
+    /**
+     * Forgets the recorded values, the recording restarts now.
+     */
+    public void reset() {
+        window.set(new Window(System.nanoTime(), new LatencyHistogram(), EMPTY));
+    }
+
+    /**
+     * @return values recorded during the current period and the previous one
+     */
+    public LatencyHistogram snapshot() {
+        final Window current = rotate(System.nanoTime());
+        final LatencyHistogram snapshot = new LatencyHistogram();
+        snapshot.add(current.previous);
+        snapshot.add(current.current);
+        return snapshot;
+    }
+
+    /**
+     * @return {@link System#nanoTime()} of the oldest value which may be recorded in the {@link #snapshot()}
+     */
+    public long getStartNanos() {
+        final Window current = rotate(System.nanoTime());
+        return current.previous == EMPTY ? current.startNanos : current.startNanos - periodNanos;
+    }
+
+    /**
+     * @return
+     */
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    private Window rotate(final long nanos) {
+        final Window current = window.get();
+        final long elapsed = nanos - current.startNanos;
+        if (elapsed < periodNanos) {
+            return current;
+        }
+        // the current period ended more than one period ago: nothing recent is kept
+        final Window next = elapsed < 2 * periodNanos
+                ? new Window(current.startNanos + periodNanos, new LatencyHistogram(), current.current)
+                : new Window(nanos, new LatencyHistogram(), EMPTY);
+        return window.compareAndSet(current, next) ? next : window.get();
+    }
+
+    private static final class Window {
+
+        private final long startNanos;
+        private final LatencyHistogram current;
+        private final LatencyHistogram previous;
+
+        private Window(final long startNanos, final LatencyHistogram current, final LatencyHistogram previous) {
+            this.startNanos = startNanos;
+            this.current = current;
+            this.previous = previous;
+        }
+
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.metrics;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.ExecutorStatistics;
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.executor.rejection.CountingRejectedExecutionHandler;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+
+/**
+ * Meters of every executor listed by the executors endpoint.
+ * The underlying thread pool is resolved on each measure, so meters follow executors recreated by start or updated at runtime.
+ * The lock free statistics of an instrumented executor are read rather than the counts of the pool, which take its main lock.
+ * The counters stay monotonic when the pool, or its counting rejection handler, is replaced and restarts from 0.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorsMeterBinder implements MeterBinder {
+
+    private static final String PREFIX = "executors.";
+
+    private final Supplier<Map<String, Executor>> executors;
+
+    /**
+     * @param executors
+     */
+    public ExecutorsMeterBinder(Supplier<Map<String, Executor>> executors) {
+        this.executors = executors;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Entry<String, Executor> entry : executors.get().entrySet()) {
+            final Tags tags = Tags.of("name", entry.getKey());
+            final Executor executor = entry.getValue();
+            final Object unwrapped = CommonsActuatorUtils.unwrap(executor);
+            if (executor instanceof ThreadPoolTaskExecutor
+                    || executor instanceof ThreadPoolTaskScheduler
+                    || unwrapped instanceof ThreadPoolExecutor) {
+                bindThreadPool(registry, tags, executor);
+            } else if (unwrapped instanceof ForkJoinPool forkJoinPool) {
+                bindForkJoinPool(registry, tags, forkJoinPool);
+            } else if (executor instanceof SimpleAsyncTaskExecutor simpleAsyncTaskExecutor) {
+                bindSimpleAsyncTaskExecutor(registry, tags, simpleAsyncTaskExecutor);
+            }
+        }
+    }
+
+    private static final void bindThreadPool(final MeterRegistry registry, final Tags tags, final Executor executor) {
+        gauge(registry, "active", "Active threads", tags, executor, tpe -> {
+            final ExecutorStatistics statistics = getStatistics(executor);
+            return statistics != null ? statistics.getActiveCount() : tpe.getActiveCount();
+        });
+        gauge(registry, "pool.size", "Current threads", tags, executor, tpe -> {
+            final ExecutorStatistics statistics = getStatistics(executor);
+            return statistics != null ? statistics.getPoolSize() : tpe.getPoolSize();
+        });
+        gauge(registry, "pool.core", "Core pool size", tags, executor, ThreadPoolExecutor::getCorePoolSize);
+        gauge(registry, "pool.max", "Maximum pool size", tags, executor, ThreadPoolExecutor::getMaximumPoolSize);
+        gauge(registry, "queued", "Queued tasks", tags, executor, tpe -> tpe.getQueue().size());
+        gauge(registry, "queue.remaining", "Remaining queue capacity", tags, executor, tpe -> tpe.getQueue().remainingCapacity());
+        gauge(registry, "queue.capacity", "Queue capacity", tags, executor, tpe -> getCapacity(tpe.getQueue()));
+        final MonotonicCount completed = new MonotonicCount();
+        FunctionCounter.builder(PREFIX + "completed", executor, e -> measure(e, tpe -> {
+            final ExecutorStatistics statistics = getStatistics(executor);
+            return statistics != null
+                    ? completed.get(statistics, statistics.getCompletedTaskCount())
+                    : completed.get(tpe, tpe.getCompletedTaskCount());
+        }))
+                .description("Completed tasks")
+                .tags(tags)
+                .register(registry);
+        final MonotonicCount rejected = new MonotonicCount();
+        FunctionCounter.builder(PREFIX + "rejected", executor, e -> measure(e, tpe -> {
+            final CountingRejectedExecutionHandler counting = getCounting(tpe);
+            return counting != null ? rejected.get(counting, counting.getRejectedCount()) : rejected.get(null, 0);
+        }))
+                .description("Rejected tasks, counted once the rejection handler is instrumented")
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static final void bindForkJoinPool(final MeterRegistry registry, final Tags tags, final ForkJoinPool forkJoinPool) {
+        Gauge.builder(PREFIX + "active", forkJoinPool, ForkJoinPool::getActiveThreadCount).description("Active threads").tags(tags).register(registry);
+        Gauge.builder(PREFIX + "running", forkJoinPool, ForkJoinPool::getRunningThreadCount).description("Running threads").tags(tags).register(registry);
+        Gauge.builder(PREFIX + "pool.size", forkJoinPool, ForkJoinPool::getPoolSize).description("Current threads").tags(tags).register(registry);
+        Gauge.builder(PREFIX + "parallelism", forkJoinPool, ForkJoinPool::getParallelism).description("Target parallelism").tags(tags).register(registry);
+        Gauge.builder(PREFIX + "queued", forkJoinPool, pool -> (double) pool.getQueuedTaskCount() + pool.getQueuedSubmissionCount())
+                .description("Queued tasks and submissions")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(PREFIX + "steals", forkJoinPool, ForkJoinPool::getStealCount).description("Stolen tasks").tags(tags).register(registry);
+    }
+
+    private static final void bindSimpleAsyncTaskExecutor(final MeterRegistry registry, final Tags tags, final SimpleAsyncTaskExecutor executor) {
+        Gauge.builder(PREFIX + "concurrency.limit", executor, SimpleAsyncTaskExecutor::getConcurrencyLimit).description("Concurrency limit").tags(tags).register(registry);
+        Gauge.builder(PREFIX + "throttle.active", executor, e -> e.isThrottleActive() ? 1 : 0).description("Concurrency throttle active").tags(tags).register(registry);
+    }
+
+    private static final void gauge(final MeterRegistry registry, final String name, final String description, final Tags tags,
+            final Executor executor, final ToDoubleFunction<ThreadPoolExecutor> function) {
+        Gauge.builder(PREFIX + name, executor, e -> measure(e, function))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static final double measure(final Executor executor, final ToDoubleFunction<ThreadPoolExecutor> function) {
+        final ThreadPoolExecutor tpe;
+        try {
+            tpe = CommonsActuatorUtils.getThreadPoolExecutor(executor);
+        } catch (IllegalStateException e) {
+            // not initialized
+            return Double.NaN;
+        }
+        return tpe != null ? function.applyAsDouble(tpe) : Double.NaN;
+    }
+
+    private static final double getCapacity(final BlockingQueue<Runnable> queue) {
+        return (double) queue.size() + queue.remainingCapacity();
+    }
+
+    private static final ExecutorStatistics getStatistics(final Executor executor) {
+        final InstrumentedTaskDecorator instrumentation = CommonsActuatorUtils.getInstrumentation(executor);
+        return instrumentation != null ? instrumentation.getStatistics() : null;
+    }
+
+    private static final CountingRejectedExecutionHandler getCounting(final ThreadPoolExecutor executor) {
+        return executor.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler counting ? counting : null;
+    }
+
+    /**
+     * Sum of the counts of the successive sources of a counter, each source restarting from 0.
+     */
+    private static final class MonotonicCount {
+
+        private Object source;
+        private double last;
+        private double offset;
+
+        synchronized double get(final Object currentSource, final double value) {
+            if (currentSource != source || value < last) {
+                offset += last;
+                source = currentSource;
+            }
+            last = value;
+            return offset + value;
+        }
+
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+/**
+ * Task providing its own priority in a {@link PriorityTaskQueue}.
+ * Tasks submitted with {@code submit} are hidden by their future, unless {@code java.util.concurrent} is opened to the application.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public interface Prioritized {
+
+    /**
+     * @return higher values are executed first
+     */
+    int getPriority();
+
+}
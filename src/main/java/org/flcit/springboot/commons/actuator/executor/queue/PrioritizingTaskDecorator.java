@@ -0,0 +1,86 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import java.lang.StackWalker.StackFrame;
+
+import org.springframework.core.task.TaskDecorator;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.TaskTypes;
+
+/**
+ * Resolves the {@link TaskPriorities priority} of a task on the submitting thread, including the {@code @Async} method
+ * found on its stack, and before its decoration by another task decorator, which would hide the task from the {@link PriorityTaskQueue}.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class PrioritizingTaskDecorator implements TaskDecorator {
+
+    private final TaskDecorator delegate;
+
+    /**
+     * @param delegate null if the executor has no other task decorator
+     */
+    public PrioritizingTaskDecorator(final TaskDecorator delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Runnable decorate(final Runnable runnable) {
+        // submitted by AsyncExecutionInterceptor from the caller thread: the proxied method is on the stack
+        final StackFrame asyncFrame = TaskTypes.isAsyncCandidate(runnable, TaskTypes.getTaskClass(runnable)) ? TaskTypes.getAsyncFrame() : null;
+        if (delegate == null && asyncFrame == null) {
+            // resolved the same way by the queue
+            return runnable;
+        }
+        final int priority = TaskPriorities.getPriority(runnable, asyncFrame);
+        return new PrioritizedTask(delegate != null ? delegate.decorate(runnable) : runnable, priority);
+    }
+
+    /**
+     * @return
+     */
+    public TaskDecorator getDelegate() {
+        return delegate;
+    }
+
+    private static final class PrioritizedTask implements Runnable, Prioritized {
+
+        private final Runnable task;
+        private final int priority;
+
+        private PrioritizedTask(final Runnable task, final int priority) {
+            this.task = task;
+            this.priority = priority;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class PriorityQueueBeanPostProcessor implements BeanPostProcessor, Ordered {
+
+    /**
+     *
+     */
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean != null
+                && (bean.getClass() == ThreadPoolTaskExecutor.class
+                    || bean.getClass() == ResizableThreadPoolTaskExecutor.class)) {
+            return ResizableQueueBeanPostProcessor.replace((ThreadPoolTaskExecutor) bean, new PriorityThreadPoolTaskExecutor());
+        }
+        return bean;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded and resizable task queue ordered by {@link TaskPriorities priority}.
+ * Starvation is prevented by aging: a task is ordered as if it was submitted {@code priority * agingMillis} earlier,
+ * so a task waits at most the priority difference times {@code agingMillis} behind tasks of higher priority.
+ * When priorities are disabled the tasks are ordered by submission time (FIFO), the queued tasks keep their order.
+ * Tasks are wrapped while queued, the wrappers never leave the queue: the tasks taken, polled or moved to another queue
+ * are the tasks offered, with the priority they carry.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class PriorityTaskQueue extends ResizableBlockingQueue<Runnable> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 
+     */
+    public static final long DEFAULT_AGING_MILLIS = 1000;
+
+    private static final double MAX_BOOST_NANOS = Long.MAX_VALUE / 4d;
+
+    private final long origin = System.nanoTime();
+    private final AtomicLong sequence = new AtomicLong();
+    private final transient Map<Integer, AtomicInteger> depths = new ConcurrentHashMap<>();
+    private volatile boolean priorityEnabled = true;
+    private volatile long agingNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_AGING_MILLIS);
+
+    /**
+     * @param capacity
+     */
+    public PriorityTaskQueue(final int capacity) {
+        super(capacity, new PriorityBlockingQueue<>());
+    }
+
+    /**
+     * @return
+     */
+    public boolean isPriorityEnabled() {
+        return priorityEnabled;
+    }
+
+    /**
+     * @param priorityEnabled false to order the next tasks by submission time
+     */
+    public void setPriorityEnabled(final boolean priorityEnabled) {
+        this.priorityEnabled = priorityEnabled;
+    }
+
+    /**
+     * @return
+     */
+    public long getAgingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(agingNanos);
+    }
+
+    /**
+     * @param agingMillis waiting time compensating one priority level
+     */
+    public void setAgingMillis(final long agingMillis) {
+        Assert.isTrue(agingMillis > 0, "AgingMillis must be greater than 0");
+        this.agingNanos = TimeUnit.MILLISECONDS.toNanos(agingMillis);
+    }
+
+    /**
+     * @return number of queued tasks by priority, highest first
+     */
+    public Map<Integer, Integer> getDepths() {
+        final Map<Integer, Integer> res = new TreeMap<>(Collections.reverseOrder());
+        for (Map.Entry<Integer, AtomicInteger> entry: depths.entrySet()) {
+            final int depth = entry.getValue().get();
+            if (depth > 0) {
+                res.put(entry.getKey(), depth);
+            }
+        }
+        return res;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public boolean offer(final Runnable e) {
+        final QueuedTask task = queued(e);
+        if (super.offer(task)) {
+            return true;
+        }
+        dequeued(task);
+        return false;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public boolean offer(final Runnable e, final long timeout, final TimeUnit unit) throws InterruptedException {
+        final QueuedTask task = queued(e);
+        boolean queued = false;
+        try {
+            queued = super.offer(task, timeout, unit);
+            return queued;
+        } finally {
+            if (!queued) {
+                dequeued(task);
+            }
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void put(final Runnable e) throws InterruptedException {
+        final QueuedTask task = queued(e);
+        boolean queued = false;
+        try {
+            super.put(task);
+            queued = true;
+        } finally {
+            if (!queued) {
+                dequeued(task);
+            }
+        }
+    }
+
+    private QueuedTask queued(final Runnable e) {
+        Assert.notNull(e, "Element must not be null");
+        final int priority = TaskPriorities.getPriority(e);
+        long key = System.nanoTime() - origin;
+        if (priorityEnabled) {
+            key -= (long) Math.max(-MAX_BOOST_NANOS, Math.min(MAX_BOOST_NANOS, (double) priority * agingNanos));
+        }
+        // counted before being queued so that a concurrent consumer never sees a negative depth
+        depths.computeIfAbsent(priority, k -> new AtomicInteger()).incrementAndGet();
+        return new QueuedTask(e, priority, key, sequence.incrementAndGet());
+    }
+
+    private Runnable dequeued(final Runnable e) {
+        if (e instanceof QueuedTask task) {
+            depths.get(task.priority).decrementAndGet();
+        }
+        return e;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Runnable take() throws InterruptedException {
+        return unwrap(dequeued(super.take()));
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Runnable poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return unwrap(dequeued(super.poll(timeout, unit)));
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Runnable poll() {
+        return unwrap(dequeued(super.poll()));
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Runnable peek() {
+        return unwrap(super.peek());
+    }
+
+    /**
+     *
+     */
+    @Override
+    public boolean remove(final Object o) {
+        final Iterator<Runnable> iterator = super.iterator();
+        while (iterator.hasNext()) {
+            final Runnable e = iterator.next();
+            if (unwrap(e).equals(o)) {
+                return removeQueued(e);
+            }
+        }
+        return false;
+    }
+
+    private boolean removeQueued(final Runnable e) {
+        if (super.remove(e)) {
+            dequeued(e);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void clear() {
+        drainTo(new ArrayList<>());
+    }
+
+    /**
+     *
+     */
+    @Override
+    public int drainTo(final Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     *
+     */
+    @Override
+    public int drainTo(final Collection<? super Runnable> c, final int maxElements) {
+        final List<Runnable> drained = new ArrayList<>();
+        final int n = super.drainTo(drained, maxElements);
+        for (Runnable e: drained) {
+            c.add(unwrap(dequeued(e)));
+        }
+        return n;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        final Iterator<Runnable> iterator = super.iterator();
+        return new Iterator<>() {
+            private Runnable last;
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+            @Override
+            public Runnable next() {
+                last = iterator.next();
+                return unwrap(last);
+            }
+            @Override
+            public void remove() {
+                Assert.state(last != null, "next must be called before remove");
+                removeQueued(last);
+                last = null;
+            }
+        };
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Object[] toArray() {
+        final Object[] array = super.toArray();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = unwrap((Runnable) array[i]);
+        }
+        return array;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public <T> T[] toArray(final T[] a) {
+        final Object[] array = toArray();
+        final List<Object> list = new ArrayList<>(array.length);
+        Collections.addAll(list, array);
+        return list.toArray(a);
+    }
+
+    private static Runnable unwrap(final Runnable e) {
+        return e instanceof QueuedTask task ? task.task : e;
+    }
+
+    private static final class QueuedTask implements Runnable, Comparable<QueuedTask> {
+
+        private final Runnable task;
+        private final int priority;
+        private final long key;
+        private final long sequence;
+
+        private QueuedTask(final Runnable task, final int priority, final long key, final long sequence) {
+            this.task = task;
+            this.priority = priority;
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int compareTo(final QueuedTask o) {
+            final int res = Long.compare(key, o.key);
+            return res != 0 ? res : Long.compare(sequence, o.sequence);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.core.task.TaskDecorator;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+import org.flcit.commons.core.util.ReflectionUtils;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+@SuppressWarnings("serial")
+public class PriorityThreadPoolTaskExecutor extends ResizableThreadPoolTaskExecutor {
+
+    /**
+     * Without the instrumentation, which carries the priority itself, the task decorator (if any) is wrapped by a {@link PrioritizingTaskDecorator}.
+     */
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        final TaskDecorator taskDecorator = ReflectionUtils.getSafeFieldValue(this, CommonsActuatorUtils.FIELD_TASK_DECORATOR, TaskDecorator.class);
+        if (!(taskDecorator instanceof InstrumentedTaskDecorator)
+                && !(taskDecorator instanceof PrioritizingTaskDecorator)) {
+            setTaskDecorator(new PrioritizingTaskDecorator(taskDecorator));
+        }
+        return super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+    }
+
+    /**
+     *
+     */
+    @Override
+    protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+        return queueCapacity > 0 ? new PriorityTaskQueue(queueCapacity) : super.createQueue(queueCapacity);
+    }
+
+}
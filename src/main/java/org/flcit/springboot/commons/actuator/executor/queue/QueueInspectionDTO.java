@@ -0,0 +1,115 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class QueueInspectionDTO {
+
+    private final int size;
+    private final int offset;
+    private final int limit;
+    private final int scanned;
+    private final int maxScanned;
+    private final boolean complete;
+    private final Map<Integer, Integer> depths;
+    private final Map<String, Long> taskTypes;
+    private final List<QueuedTaskDTO> tasks;
+
+    @SuppressWarnings("java:S107")
+    QueueInspectionDTO(final int size, final int offset, final int limit, final int scanned, final int maxScanned, final boolean complete,
+            final Map<Integer, Integer> depths, final Map<String, Long> taskTypes, final List<QueuedTaskDTO> tasks) {
+        this.size = size;
+        this.offset = offset;
+        this.limit = limit;
+        this.scanned = scanned;
+        this.maxScanned = maxScanned;
+        this.complete = complete;
+        this.depths = depths;
+        this.taskTypes = taskTypes;
+        this.tasks = tasks;
+    }
+
+    /**
+     * @return
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return tasks read
+     */
+    public int getScanned() {
+        return scanned;
+    }
+
+    /**
+     * @return maximum number of tasks read for this queue, 0 if its iterator copies the whole queue
+     */
+    public int getMaxScanned() {
+        return maxScanned;
+    }
+
+    /**
+     * @return true if all the queue has been read
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return number of queued tasks by priority for a {@link PriorityTaskQueue}, null otherwise
+     */
+    public Map<Integer, Integer> getDepths() {
+        return depths;
+    }
+
+    /**
+     * @return tasks read by task type, most frequent first
+     */
+    public Map<String, Long> getTaskTypes() {
+        return taskTypes;
+    }
+
+    /**
+     * @return
+     */
+    public List<QueuedTaskDTO> getTasks() {
+        return tasks;
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTask;
+import org.flcit.springboot.commons.actuator.executor.instrument.TaskTypes;
+import org.flcit.springboot.commons.actuator.executor.scheduled.ScheduledFutures;
+
+/**
+ * Page of at most {@value #MAX_LIMIT} tasks waiting in a queue, read with its iterator, the task types are counted on the tasks read.
+ * At most {@value #MAX_SCANNED} tasks are read by request, so a page must end within the first {@value #MAX_SCANNED} tasks.
+ * The iterators of the lock-free queues ({@link java.util.concurrent.LinkedTransferQueue}, {@link java.util.concurrent.SynchronousQueue})
+ * are weakly consistent.
+ * The iterators of the other queues ({@link java.util.concurrent.LinkedBlockingQueue}, {@link ResizableBlockingQueue}, ...)
+ * take the queue locks at each task only, the producers and the consumers are not blocked during the whole read.
+ * The iterators of the heap-based queues ({@link PriorityBlockingQueue}, {@link PriorityTaskQueue}, {@link DelayQueue},
+ * queue of a {@link ScheduledThreadPoolExecutor}) copy the whole queue under its lock: they are never read,
+ * only their size and, for a {@link PriorityTaskQueue}, the number of tasks by priority are returned.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public final class QueueInspector {
+
+    /**
+     * 
+     */
+    public static final int MAX_SCANNED = 100_000;
+    /**
+     * 
+     */
+    public static final int MAX_LIMIT = 1_000;
+    private static final int TYPES_SCANNED = 10_000;
+    private static final String DELAYED_WORK_QUEUE = "java.util.concurrent.ScheduledThreadPoolExecutor$DelayedWorkQueue";
+
+    private QueueInspector() { }
+
+    /**
+     * @param queue
+     * @param offset
+     * @param limit
+     * @return
+     */
+    public static QueueInspectionDTO inspect(final BlockingQueue<Runnable> queue, final int offset, final int limit) {
+        Assert.isTrue(offset >= 0, "Offset must be greater than or equal to 0");
+        Assert.isTrue(limit > 0 && limit <= MAX_LIMIT, "Limit must be greater than 0 and less than or equal to " + MAX_LIMIT);
+        final int size = queue.size();
+        final int maxScanned = getMaxScanned(queue);
+        final Map<Integer, Integer> depths = queue instanceof PriorityTaskQueue priorityTaskQueue ? priorityTaskQueue.getDepths() : null;
+        if (maxScanned == 0) {
+            return new QueueInspectionDTO(size, offset, limit, 0, maxScanned, size == 0, depths, Map.of(), List.of());
+        }
+        Assert.isTrue((long) offset + limit <= maxScanned, "Offset + limit must be less than or equal to " + maxScanned);
+        final int scanLimit = Math.max(offset + limit, Math.min(TYPES_SCANNED, maxScanned));
+        final long nanos = System.nanoTime();
+        final List<QueuedTaskDTO> tasks = new ArrayList<>(Math.min(limit, size));
+        final Map<String, Long> types = new HashMap<>();
+        final Iterator<Runnable> iterator = queue.iterator();
+        int index = 0;
+        while (index < scanLimit && iterator.hasNext()) {
+            final Runnable runnable = iterator.next();
+            final InstrumentedTask instrumentedTask = getInstrumentedTask(runnable);
+            final String type = instrumentedTask != null ? instrumentedTask.getTaskType().getType() : TaskTypes.getTaskClass(runnable);
+            types.merge(type, 1L, Long::sum);
+            if (index >= offset && index < offset + limit) {
+                tasks.add(new QueuedTaskDTO(index, type,
+                        instrumentedTask != null ? TimeUnit.NANOSECONDS.toMillis(nanos - instrumentedTask.getSubmitNanos()) : null));
+            }
+            index++;
+        }
+        return new QueueInspectionDTO(size, offset, limit, index, maxScanned, !iterator.hasNext(), depths, sortByCount(types), tasks);
+    }
+
+    /**
+     * @param queue
+     * @return maximum number of tasks read for the queue, 0 if its iterator copies the whole queue
+     */
+    public static int getMaxScanned(final BlockingQueue<Runnable> queue) {
+        if (queue instanceof PriorityTaskQueue
+                || queue instanceof PriorityBlockingQueue
+                || queue instanceof DelayQueue
+                || DELAYED_WORK_QUEUE.equals(queue.getClass().getName())) {
+            return 0;
+        }
+        // weakly consistent, locks taken at each task, or unknown iterator
+        return MAX_SCANNED;
+    }
+
+    private static final InstrumentedTask getInstrumentedTask(final Runnable runnable) {
+        if (runnable instanceof InstrumentedTask instrumentedTask) {
+            return instrumentedTask;
+        }
+        // futures decorated by a ThreadPoolTaskScheduler task decorator
+        return ScheduledFutures.getDecoratedRunnable(runnable) instanceof InstrumentedTask instrumentedTask
+                ? instrumentedTask
+                : null;
+    }
+
+    private static final Map<String, Long> sortByCount(final Map<String, Long> types) {
+        final Map<String, Long> sorted = new LinkedHashMap<>();
+        types.entrySet().stream()
+                .sorted(Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+}
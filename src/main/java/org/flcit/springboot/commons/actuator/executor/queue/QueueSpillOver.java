@@ -0,0 +1,149 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+
+/**
+ * Periodically moves the queued tasks of an executor above a fill threshold of its queue to another executor,
+ * as long as the target queue stays below the same threshold.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class QueueSpillOver implements Runnable {
+
+    private static final Log LOG = LogFactory.getLog(QueueSpillOver.class);
+
+    private final Supplier<ThreadPoolExecutor> source;
+    private final Supplier<ThreadPoolExecutor> target;
+    private final Supplier<InstrumentedTaskDecorator> targetInstrumentation;
+    private final String targetName;
+    private final double threshold;
+    private final long intervalMillis;
+
+    private ScheduledFuture<?> future;
+    private long movedCount;
+    private long lastMovedMillis;
+    private long failureCount;
+    private String lastFailure;
+
+    /**
+     * @param source
+     * @param target
+     * @param targetInstrumentation
+     * @param targetName
+     * @param threshold fill ratio of the source queue, between 0 and 1
+     * @param intervalMillis
+     */
+    public QueueSpillOver(final Supplier<ThreadPoolExecutor> source, final Supplier<ThreadPoolExecutor> target,
+            final Supplier<InstrumentedTaskDecorator> targetInstrumentation, final String targetName,
+            final double threshold, final long intervalMillis) {
+        Assert.isTrue(threshold >= 0 && threshold <= 1, "Threshold must be between 0 and 1");
+        Assert.isTrue(intervalMillis > 0, "IntervalMillis must be greater than 0");
+        QueueTransfer.assertCompatible(source.get(), target.get());
+        this.source = source;
+        this.target = target;
+        this.targetInstrumentation = targetInstrumentation;
+        this.targetName = targetName;
+        this.threshold = threshold;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * @param scheduler
+     */
+    public synchronized void start(final ScheduledExecutorService scheduler) {
+        if (isRunning()) {
+            return;
+        }
+        future = scheduler.scheduleWithFixedDelay(this, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 
+     */
+    public synchronized void stop() {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    /**
+     * @return
+     */
+    public synchronized boolean isRunning() {
+        return future != null && !future.isDone();
+    }
+
+    /**
+     *
+     */
+    @Override
+    public synchronized void run() {
+        // an exception escaping a periodic task silently cancels every next execution
+        try {
+            spillOver();
+        } catch (RuntimeException e) {
+            failureCount++;
+            lastFailure = e.toString();
+            LOG.warn("Queue spill over to " + targetName + " failed", e);
+        }
+    }
+
+    private void spillOver() {
+        // executors are resolved on each run as start recreates them
+        final ThreadPoolExecutor sourceExecutor = source.get();
+        final ThreadPoolExecutor targetExecutor = target.get();
+        if (sourceExecutor == null || targetExecutor == null) {
+            return;
+        }
+        final int excess = sourceExecutor.getQueue().size() - getThreshold(sourceExecutor);
+        if (excess <= 0) {
+            return;
+        }
+        final int moved = QueueTransfer.transfer(sourceExecutor, targetExecutor, targetInstrumentation.get(),
+                Math.min(excess, Math.max(0, getThreshold(targetExecutor) - targetExecutor.getQueue().size())));
+        if (moved > 0) {
+            movedCount += moved;
+            lastMovedMillis = System.currentTimeMillis();
+        }
+    }
+
+    private int getThreshold(final ThreadPoolExecutor executor) {
+        final long capacity = (long) executor.getQueue().size() + executor.getQueue().remainingCapacity();
+        return (int) Math.min(Integer.MAX_VALUE, (long) Math.ceil(capacity * threshold));
+    }
+
+    /**
+     * @return
+     */
+    public synchronized SpillOverDTO toDTO() {
+        return new SpillOverDTO(isRunning(), targetName, threshold, intervalMillis, movedCount, lastMovedMillis, failureCount, lastFailure);
+    }
+
+}
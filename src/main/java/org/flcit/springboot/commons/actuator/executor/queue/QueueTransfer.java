@@ -0,0 +1,126 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTask;
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+
+/**
+ * Moves queued, not yet started, tasks from the head of the queue of an executor to the queue of another, one by one and in order.
+ * A task is only taken from the source while the target queue has room: neither rejection policy is ever involved.
+ * If the target queue is filled concurrently, the task taken waits for room up to {@value #OFFER_TIMEOUT_MILLIS} ms,
+ * then goes back at the tail of the source queue.
+ * The instrumentation of the source is removed from the tasks moved, the instrumentation of the target, if any, is applied.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public final class QueueTransfer {
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private QueueTransfer() { }
+
+    /**
+     * @param source
+     * @param target
+     */
+    public static void assertCompatible(final ThreadPoolExecutor source, final ThreadPoolExecutor target) {
+        Assert.notNull(source, "Source must be a thread pool executor");
+        Assert.notNull(target, "Target must be a thread pool executor");
+        Assert.isTrue(source != target, "Target must be another executor");
+        // delayed tasks only make sense in the delay queue of their scheduler
+        Assert.isTrue(!(source instanceof ScheduledThreadPoolExecutor) && !(target instanceof ScheduledThreadPoolExecutor), "Scheduled executors are not supported");
+        // tasks put straight in the queue do not start the workers of a pool without core threads
+        Assert.isTrue(target.getCorePoolSize() > 0, "Target must have core threads");
+    }
+
+    /**
+     * @param source
+     * @param target
+     * @param targetInstrumentation null if the target is not instrumented
+     * @param maxTasks
+     * @return number of tasks moved
+     */
+    public static int transfer(final ThreadPoolExecutor source, final ThreadPoolExecutor target, final InstrumentedTaskDecorator targetInstrumentation,
+            final int maxTasks) {
+        int moved = 0;
+        while (moved < maxTasks
+                && !source.isShutdown()
+                && !target.isShutdown()
+                && target.getQueue().remainingCapacity() > 0) {
+            final Runnable task = source.getQueue().poll();
+            if (task == null) {
+                break;
+            }
+            if (!offer(target, task instanceof InstrumentedTask instrumentedTask ? adopt(instrumentedTask, targetInstrumentation) : task)) {
+                giveBack(source, task);
+                break;
+            }
+            moved++;
+        }
+        if (moved > 0) {
+            prestartCoreThreads(target, moved);
+        }
+        return moved;
+    }
+
+    private static final Runnable adopt(final InstrumentedTask task, final InstrumentedTaskDecorator targetInstrumentation) {
+        return targetInstrumentation != null ? targetInstrumentation.adopt(task) : task.getTask();
+    }
+
+    private static final boolean offer(final ThreadPoolExecutor target, final Runnable task) {
+        try {
+            if (!target.getQueue().offer(task, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        // shut down meanwhile: the task may never run
+        return !(target.isShutdown() && target.remove(task));
+    }
+
+    private static final void giveBack(final ThreadPoolExecutor source, final Runnable task) {
+        boolean interrupted = false;
+        boolean queued = false;
+        // the source workers keep emptying the queue: wait for room rather than dropping or running the task here
+        while (!queued) {
+            try {
+                queued = source.getQueue().offer(task, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final void prestartCoreThreads(final ThreadPoolExecutor target, final int tasks) {
+        for (int i = 0; i < tasks && target.getPoolSize() < target.getCorePoolSize(); i++) {
+            target.prestartCoreThread();
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class QueuedTaskDTO {
+
+    private final int index;
+    private final String taskType;
+    private final Long ageMillis;
+
+    QueuedTaskDTO(final int index, final String taskType, final Long ageMillis) {
+        this.index = index;
+        this.taskType = taskType;
+        this.ageMillis = ageMillis;
+    }
+
+    /**
+     * @return position in the queue
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return
+     */
+    public String getTaskType() {
+        return taskType;
+    }
+
+    /**
+     * @return time since the submission, null if the executor is not instrumented
+     */
+    public Long getAgeMillis() {
+        return ageMillis;
+    }
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import java.io.Serializable;
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded blocking queue whose capacity can be changed at runtime.
+ * Elements are stored in an unbounded queue, a {@link LinkedBlockingQueue} by default, the capacity is checked under
+ * a producer lock so that {@link #size()} and {@link #remainingCapacity()} stay lock-free.
+ * Shrinking below the current size keeps the queued elements and rejects new ones until the size drops.
+ *
+ * @param <E>
+ * @since 
+ * @author Florian Lestic
+ */
+public class ResizableBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final BlockingQueue<E> delegate;
+    private final ReentrantLock putLock = new ReentrantLock();
+    private final Condition notFull = putLock.newCondition();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+    private volatile int capacity;
+
+    /**
+     * @param capacity
+     */
+    public ResizableBlockingQueue(final int capacity) {
+        this(capacity, new LinkedBlockingQueue<>());
+    }
+
+    /**
+     * @param capacity
+     * @param delegate unbounded queue storing the elements
+     */
+    protected ResizableBlockingQueue(final int capacity, final BlockingQueue<E> delegate) {
+        Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+        this.capacity = capacity;
+        this.delegate = delegate;
+    }
+
+    /**
+     * @return
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @param capacity
+     */
+    public void setCapacity(final int capacity) {
+        Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+        putLock.lock();
+        try {
+            final int previous = this.capacity;
+            this.capacity = capacity;
+            if (capacity > previous) {
+                notFull.signalAll();
+            }
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public boolean offer(final E e) {
+        Assert.notNull(e, "Element must not be null");
+        putLock.lock();
+        try {
+            if (delegate.size() >= capacity) {
+                return false;
+            }
+            return enqueue(e);
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public boolean offer(final E e, final long timeout, final TimeUnit unit) throws InterruptedException {
+        Assert.notNull(e, "Element must not be null");
+        long nanos = unit.toNanos(timeout);
+        putLock.lockInterruptibly();
+        waitingProducers.incrementAndGet();
+        try {
+            while (delegate.size() >= capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return enqueue(e);
+        } finally {
+            waitingProducers.decrementAndGet();
+            putLock.unlock();
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void put(final E e) throws InterruptedException {
+        Assert.notNull(e, "Element must not be null");
+        putLock.lockInterruptibly();
+        waitingProducers.incrementAndGet();
+        try {
+            while (delegate.size() >= capacity) {
+                notFull.await();
+            }
+            enqueue(e);
+        } finally {
+            waitingProducers.decrementAndGet();
+            putLock.unlock();
+        }
+    }
+
+    private boolean enqueue(final E e) {
+        delegate.offer(e);
+        if (delegate.size() < capacity
+                && waitingProducers.get() > 0) {
+            notFull.signal();
+        }
+        return true;
+    }
+
+    private void signalNotFull() {
+        if (waitingProducers.get() > 0) {
+            putLock.lock();
+            try {
+                notFull.signal();
+            } finally {
+                putLock.unlock();
+            }
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public E take() throws InterruptedException {
+        final E e = delegate.take();
+        signalNotFull();
+        return e;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public E poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final E e = delegate.poll(timeout, unit);
+        if (e != null) {
+            signalNotFull();
+        }
+        return e;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public E poll() {
+        final E e = delegate.poll();
+        if (e != null) {
+            signalNotFull();
+        }
+        return e;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public E peek() {
+        return delegate.peek();
+    }
+
+    /**
+     *
+     */
+    @Override
+    public boolean remove(final Object o) {
+        if (delegate.remove(o)) {
+            signalNotFull();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void clear() {
+        delegate.clear();
+        signalNotFull();
+    }
+
+    /**
+     *
+     */
+    @Override
+    public int drainTo(final Collection<? super E> c) {
+        final int n = delegate.drainTo(c);
+        signalNotFull();
+        return n;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public int drainTo(final Collection<? super E> c, final int maxElements) {
+        final int n = delegate.drainTo(c, maxElements);
+        signalNotFull();
+        return n;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - delegate.size());
+    }
+
+    /**
+     *
+     */
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return delegate.iterator();
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Object[] toArray() {
+        return delegate.toArray();
+    }
+
+    /**
+     *
+     */
+    @Override
+    public <T> T[] toArray(final T[] a) {
+        return delegate.toArray(a);
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import java.time.Instant;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class SpillOverDTO {
+
+    private final boolean running;
+    private final String target;
+    private final double threshold;
+    private final long intervalMillis;
+    private final long movedCount;
+    private final Instant lastMoved;
+    private final long failureCount;
+    private final String lastFailure;
+
+    @SuppressWarnings("java:S107")
+    SpillOverDTO(boolean running, String target, double threshold, long intervalMillis, long movedCount, long lastMovedMillis,
+            long failureCount, String lastFailure) {
+        this.running = running;
+        this.target = target;
+        this.threshold = threshold;
+        this.intervalMillis = intervalMillis;
+        this.movedCount = movedCount;
+        this.lastMoved = lastMovedMillis > 0 ? Instant.ofEpochMilli(lastMovedMillis) : null;
+        this.failureCount = failureCount;
+        this.lastFailure = lastFailure;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * @return
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * @return
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * @return
+     */
+    public long getMovedCount() {
+        return movedCount;
+    }
+
+    /**
+     * @return
+     */
+    public Instant getLastMoved() {
+        return lastMoved;
+    }
+
+    /**
+     * @return
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return
+     */
+    public String getLastFailure() {
+        return lastFailure;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import java.lang.StackWalker.StackFrame;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ReflectionUtils;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.TaskTypes;
+
+/**
+ * Resolves the priority of a task: {@link Prioritized} tasks, then {@link TaskPriority} on the task class,
+ * then {@link TaskPriority} on the {@code @Async} method submitting the task.
+ * The priority is resolved once by the task decorator, on the submitting thread: by the instrumentation,
+ * or by {@link PrioritizingTaskDecorator} otherwise, both finding the {@code @Async} methods on the stack.
+ * The task of a FutureTask ({@code submit}) is only reachable when {@code java.util.concurrent} is opened to the application.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public final class TaskPriorities {
+
+    /**
+     * 
+     */
+    public static final int DEFAULT_PRIORITY = 0;
+
+    private static final ClassValue<Integer> CLASS_PRIORITIES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            final TaskPriority priority = AnnotatedElementUtils.findMergedAnnotation(type, TaskPriority.class);
+            return priority != null ? Integer.valueOf(priority.value()) : null;
+        }
+    };
+    private static final ClassValue<Map<String, Integer>> METHOD_PRIORITIES = new ClassValue<>() {
+        @Override
+        protected Map<String, Integer> computeValue(final Class<?> type) {
+            final Map<String, Integer> priorities = new ConcurrentHashMap<>();
+            for (Method method: ReflectionUtils.getUniqueDeclaredMethods(type, ReflectionUtils.USER_DECLARED_METHODS)) {
+                final TaskPriority priority = AnnotatedElementUtils.findMergedAnnotation(method, TaskPriority.class);
+                if (priority != null) {
+                    // overloads share the priority of the first annotated one
+                    priorities.putIfAbsent(method.getName(), priority.value());
+                }
+            }
+            return priorities;
+        }
+    };
+
+    private TaskPriorities() { }
+
+    /**
+     * @param task
+     * @return priority carried by a {@link Prioritized} task (resolved at submission for the decorated tasks), resolved from the task otherwise
+     */
+    public static int getPriority(final Runnable task) {
+        return task instanceof Prioritized prioritized ? prioritized.getPriority() : getPriority(task, null);
+    }
+
+    /**
+     * @param task task before decoration
+     * @param asyncFrame frame of the {@code @Async} method submitting the task, null if unknown
+     * @return
+     */
+    public static int getPriority(final Runnable task, final StackFrame asyncFrame) {
+        // the task of a FutureTask (submit) is only reachable when java.util.concurrent is opened
+        final Object target = TaskTypes.getWrappedTask(task);
+        if (target instanceof Prioritized prioritized) {
+            return prioritized.getPriority();
+        }
+        final Integer classPriority = CLASS_PRIORITIES.get(target.getClass());
+        if (classPriority != null) {
+            return classPriority;
+        }
+        if (asyncFrame != null) {
+            final Class<?> type = TaskTypes.getProxiedClass(asyncFrame.getDeclaringClass());
+            final Integer methodPriority = METHOD_PRIORITIES.get(type).get(asyncFrame.getMethodName());
+            if (methodPriority != null) {
+                return methodPriority;
+            }
+            final Integer typePriority = CLASS_PRIORITIES.get(type);
+            if (typePriority != null) {
+                return typePriority;
+            }
+        }
+        return DEFAULT_PRIORITY;
+    }
+
+}
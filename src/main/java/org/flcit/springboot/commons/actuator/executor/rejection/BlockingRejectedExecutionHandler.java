@@ -0,0 +1,68 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.rejection;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits up to a timeout for space in the queue of the executor before rejecting the task.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class BlockingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private final long timeoutMillis;
+
+    /**
+     * @param timeoutMillis
+     */
+    public BlockingRejectedExecutionHandler(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Task " + r + " rejected from " + executor + " (shutdown)");
+        }
+        try {
+            if (!executor.getQueue().offer(r, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("Task " + r + " rejected from " + executor + " after waiting " + timeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Task " + r + " rejected from " + executor + " (interrupted)", e);
+        }
+        if (executor.isShutdown() && executor.remove(r)) {
+            throw new RejectedExecutionException("Task " + r + " rejected from " + executor + " (shutdown)");
+        }
+    }
+
+    /**
+     * @return
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.rejection;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the rejections of an executor before delegating to the current policy, which can be switched at runtime.
+ * The rejection rate is computed over the last minute with one bucket per second.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private static final int RATE_WINDOW_SECONDS = 60;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final AtomicLongArray bucketSeconds = new AtomicLongArray(RATE_WINDOW_SECONDS);
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(RATE_WINDOW_SECONDS);
+    private volatile long lastRejectedMillis;
+    private volatile RejectedExecutionHandler delegate;
+    private volatile RejectionPolicy policy;
+
+    /**
+     * @param delegate
+     */
+    public CountingRejectedExecutionHandler(RejectedExecutionHandler delegate) {
+        this.delegate = delegate != null ? delegate : new ThreadPoolExecutor.AbortPolicy();
+        this.policy = getPolicy(this.delegate);
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        rejectedCount.increment();
+        final long millis = System.currentTimeMillis();
+        lastRejectedMillis = millis;
+        final long second = millis / 1000;
+        final int index = (int) (second % RATE_WINDOW_SECONDS);
+        final long bucketSecond = bucketSeconds.get(index);
+        if (bucketSecond != second && bucketSeconds.compareAndSet(index, bucketSecond, second)) {
+            bucketCounts.set(index, 0);
+        }
+        bucketCounts.incrementAndGet(index);
+        delegate.rejectedExecution(r, executor);
+    }
+
+    /**
+     * @param policy
+     * @param timeoutMillis timeout of the {@link RejectionPolicy#block} policy
+     */
+    public void setPolicy(RejectionPolicy policy, long timeoutMillis) {
+        this.delegate = newHandler(policy, timeoutMillis);
+        this.policy = policy;
+    }
+
+    /**
+     * @param delegate handler of the counted rejections, abort if null
+     */
+    public void setDelegate(RejectedExecutionHandler delegate) {
+        this.delegate = delegate != null ? delegate : new ThreadPoolExecutor.AbortPolicy();
+        this.policy = getPolicy(this.delegate);
+    }
+
+    private static final RejectedExecutionHandler newHandler(final RejectionPolicy policy, final long timeoutMillis) {
+        if (policy == RejectionPolicy.callerRuns) {
+            return new ThreadPoolExecutor.CallerRunsPolicy();
+        } else if (policy == RejectionPolicy.discard) {
+            return new ThreadPoolExecutor.DiscardPolicy();
+        } else if (policy == RejectionPolicy.discardOldest) {
+            return new ThreadPoolExecutor.DiscardOldestPolicy();
+        } else if (policy == RejectionPolicy.block) {
+            return new BlockingRejectedExecutionHandler(timeoutMillis);
+        }
+        return new ThreadPoolExecutor.AbortPolicy();
+    }
+
+    private static final RejectionPolicy getPolicy(final RejectedExecutionHandler handler) {
+        if (handler instanceof ThreadPoolExecutor.AbortPolicy) {
+            return RejectionPolicy.abort;
+        } else if (handler instanceof ThreadPoolExecutor.CallerRunsPolicy) {
+            return RejectionPolicy.callerRuns;
+        } else if (handler instanceof ThreadPoolExecutor.DiscardPolicy) {
+            return RejectionPolicy.discard;
+        } else if (handler instanceof ThreadPoolExecutor.DiscardOldestPolicy) {
+            return RejectionPolicy.discardOldest;
+        } else if (handler instanceof BlockingRejectedExecutionHandler) {
+            return RejectionPolicy.block;
+        }
+        return null;
+    }
+
+    /**
+     * @param handler
+     * @return the handler wrapped by a {@link CountingRejectedExecutionHandler}, or the handler itself
+     */
+    public static RejectedExecutionHandler unwrap(RejectedExecutionHandler handler) {
+        return handler instanceof CountingRejectedExecutionHandler counting ? counting.getDelegate() : handler;
+    }
+
+    /**
+     * @return
+     */
+    public RejectedExecutionHandler getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return null if the delegate is a custom handler
+     */
+    public RejectionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * @return 0 if no task has been rejected
+     */
+    public long getLastRejectedMillis() {
+        return lastRejectedMillis;
+    }
+
+    /**
+     * @return rejections per second over the last minute
+     */
+    public double getRejectedPerSecond() {
+        final long second = System.currentTimeMillis() / 1000;
+        long count = 0;
+        for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+            if (second - bucketSeconds.get(i) < RATE_WINDOW_SECONDS) {
+                count += bucketCounts.get(i);
+            }
+        }
+        return count / (double) RATE_WINDOW_SECONDS;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.rejection;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTask;
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+
+/**
+ * Submits the tasks rejected by a shut down executor to a target executor, the other rejections go to the delegate.
+ * A task instrumented by the source leaves its instrumentation: it is adopted by the instrumentation of the target, if any,
+ * which does not decorate it a second time.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class DivertingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private final RejectedExecutionHandler delegate;
+    private final Executor target;
+    private final LongAdder divertedCount = new LongAdder();
+
+    /**
+     * @param delegate
+     * @param target
+     */
+    public DivertingRejectedExecutionHandler(RejectedExecutionHandler delegate, Executor target) {
+        // a handler replacing the one of a previous drain
+        final RejectedExecutionHandler unwrapped = delegate instanceof DivertingRejectedExecutionHandler diverting ? diverting.getDelegate() : delegate;
+        this.delegate = unwrapped != null ? unwrapped : new ThreadPoolExecutor.AbortPolicy();
+        this.target = target;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        if (!executor.isShutdown()) {
+            delegate.rejectedExecution(r, executor);
+            return;
+        }
+        // a rejection of the target reaches the submitter
+        if (r instanceof InstrumentedTask instrumentedTask) {
+            divert(instrumentedTask);
+        } else {
+            target.execute(r);
+        }
+        divertedCount.increment();
+    }
+
+    private void divert(final InstrumentedTask task) {
+        final InstrumentedTaskDecorator targetInstrumentation = CommonsActuatorUtils.getInstrumentation(target);
+        target.execute(targetInstrumentation != null ? targetInstrumentation.adopt(task) : task.getTask());
+    }
+
+    /**
+     * @param handler
+     * @return true if the handler drops the tasks submitted after shutdown without notice
+     */
+    public static boolean dropsSilently(RejectedExecutionHandler handler) {
+        final RejectedExecutionHandler unwrapped = CountingRejectedExecutionHandler.unwrap(handler);
+        return unwrapped instanceof ThreadPoolExecutor.CallerRunsPolicy
+                || unwrapped instanceof ThreadPoolExecutor.DiscardPolicy
+                || unwrapped instanceof ThreadPoolExecutor.DiscardOldestPolicy;
+    }
+
+    /**
+     * @return
+     */
+    public RejectedExecutionHandler getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return
+     */
+    public long getDivertedCount() {
+        return divertedCount.sum();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.rejection;
+
+import java.time.Instant;
+
+import org.flcit.commons.core.util.ClassUtils;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class RejectionDTO {
+
+    private final RejectionPolicy policy;
+    private final Class<?> handler;
+    private final Long timeoutMillis;
+    private final long rejectedCount;
+    private final double rejectedPerSecond;
+    private final Instant lastRejected;
+
+    /**
+     * @param rejectedExecutionHandler
+     */
+    public RejectionDTO(CountingRejectedExecutionHandler rejectedExecutionHandler) {
+        this.policy = rejectedExecutionHandler.getPolicy();
+        this.handler = ClassUtils.getSafe(rejectedExecutionHandler.getDelegate());
+        this.timeoutMillis = rejectedExecutionHandler.getDelegate() instanceof BlockingRejectedExecutionHandler blocking ? blocking.getTimeoutMillis() : null;
+        this.rejectedCount = rejectedExecutionHandler.getRejectedCount();
+        this.rejectedPerSecond = rejectedExecutionHandler.getRejectedPerSecond();
+        this.lastRejected = rejectedExecutionHandler.getLastRejectedMillis() > 0 ? Instant.ofEpochMilli(rejectedExecutionHandler.getLastRejectedMillis()) : null;
+    }
+
+    /**
+     * @return
+     */
+    public RejectionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return
+     */
+    public Class<?> getHandler() {
+        return handler;
+    }
+
+    /**
+     * @return
+     */
+    public Long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * @return
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return
+     */
+    public double getRejectedPerSecond() {
+        return rejectedPerSecond;
+    }
+
+    /**
+     * @return
+     */
+    public Instant getLastRejected() {
+        return lastRejected;
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.scheduled;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.RunnableScheduledFuture;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Access to the task behind the futures of a ScheduledThreadPoolExecutor, with a fallback on the future itself
+ * when the internals below are not found.
+ * Checked against JDK 17 and 21 ({@code FutureTask#toString} ends with {@code [Wrapped task = <task>]}, JDK 10+)
+ * and Spring Framework 6.1 and 6.2 ({@code ThreadPoolTaskScheduler$DelegatingRunnableScheduledFuture} fields
+ * {@code future} and {@code decoratedRunnable}, {@code DelegatingErrorHandlingRunnable#toString}).
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public final class ScheduledFutures {
+
+    private static final String WRAPPED_TASK = "[Wrapped task = ";
+    private static final String ERROR_HANDLING_TASK = "DelegatingErrorHandlingRunnable for ";
+    private static final Class<?> DELEGATING_FUTURE = getClass("org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler$DelegatingRunnableScheduledFuture");
+    private static final Field FIELD_FUTURE = getField("future");
+    private static final Field FIELD_DECORATED_RUNNABLE = getField("decoratedRunnable");
+
+    private ScheduledFutures() { }
+
+    /**
+     * @param task
+     * @return the runnable returned by the task decorator of a ThreadPoolTaskScheduler, null if the task is not decorated
+     */
+    public static Runnable getDecoratedRunnable(final Object task) {
+        return isDecorated(task) ? (Runnable) ReflectionUtils.getField(FIELD_DECORATED_RUNNABLE, task) : null;
+    }
+
+    /**
+     * @param future
+     * @return the future of the executor behind the decoration of a ThreadPoolTaskScheduler, the future itself if not decorated
+     */
+    public static RunnableScheduledFuture<?> getFuture(final RunnableScheduledFuture<?> future) {
+        final Object delegate = isDecorated(future) ? ReflectionUtils.getField(FIELD_FUTURE, future) : null;
+        return delegate instanceof RunnableScheduledFuture<?> runnableScheduledFuture ? runnableScheduledFuture : future;
+    }
+
+    /**
+     * @param future
+     * @return the description of the scheduled task, the description of the future if the task is not found
+     */
+    public static String getTaskDescription(final RunnableScheduledFuture<?> future) {
+        // the runnable of a FutureTask is private to java.base, only its description is reachable
+        final String description = future.toString();
+        final int index = description.indexOf(WRAPPED_TASK);
+        if (index < 0 || !description.endsWith("]]")) {
+            return description;
+        }
+        final String task = description.substring(index + WRAPPED_TASK.length(), description.length() - 2);
+        return task.startsWith(ERROR_HANDLING_TASK) ? task.substring(ERROR_HANDLING_TASK.length()) : task;
+    }
+
+    private static final boolean isDecorated(final Object task) {
+        return task != null
+                && task.getClass() == DELEGATING_FUTURE
+                && FIELD_FUTURE != null
+                && FIELD_DECORATED_RUNNABLE != null;
+    }
+
+    private static final Class<?> getClass(final String className) {
+        try {
+            return ClassUtils.forName(className, ScheduledFutures.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static final Field getField(final String name) {
+        final Field field = DELEGATING_FUTURE != null ? ReflectionUtils.findField(DELEGATING_FUTURE, name) : null;
+        if (field == null) {
+            return null;
+        }
+        try {
+            ReflectionUtils.makeAccessible(field);
+            return field;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+}
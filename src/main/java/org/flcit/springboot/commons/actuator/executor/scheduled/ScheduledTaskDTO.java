@@ -0,0 +1,149 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.scheduled;
+
+import java.time.Instant;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.ScheduledTaskStatistics;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ScheduledTaskDTO {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final String task;
+    private final boolean periodic;
+    private final boolean cancelled;
+    private final boolean running;
+    private final long delayMillis;
+    private final Long executionCount;
+    private final Long overrunCount;
+    private final Instant lastStart;
+    private final Double lastLagMillis;
+    private final Double maxLagMillis;
+    private final Double lastDurationMillis;
+    private final Double maxDurationMillis;
+
+    ScheduledTaskDTO(final String task, final RunnableScheduledFuture<?> future, final boolean running, final ScheduledTaskStatistics statistics) {
+        this.task = task;
+        this.periodic = future.isPeriodic();
+        this.cancelled = future.isCancelled();
+        this.running = running;
+        this.delayMillis = future.getDelay(TimeUnit.MILLISECONDS);
+        this.executionCount = statistics != null ? statistics.getExecutionCount() : null;
+        this.overrunCount = statistics != null ? statistics.getOverrunCount() : null;
+        this.lastStart = statistics != null && statistics.getLastStartMillis() > 0 ? Instant.ofEpochMilli(statistics.getLastStartMillis()) : null;
+        this.lastLagMillis = statistics != null ? toMillis(statistics.getLastLagNanos()) : null;
+        this.maxLagMillis = statistics != null ? toMillis(statistics.getMaxLagNanos()) : null;
+        this.lastDurationMillis = statistics != null ? toMillis(statistics.getLastDurationNanos()) : null;
+        this.maxDurationMillis = statistics != null ? toMillis(statistics.getMaxDurationNanos()) : null;
+    }
+
+    private static final Double toMillis(final long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * @return
+     */
+    public String getTask() {
+        return task;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isPeriodic() {
+        return periodic;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return delay before the next execution, negative when late
+     */
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+
+    /**
+     * @return
+     */
+    public Long getExecutionCount() {
+        return executionCount;
+    }
+
+    /**
+     * @return
+     */
+    public Long getOverrunCount() {
+        return overrunCount;
+    }
+
+    /**
+     * @return
+     */
+    public Instant getLastStart() {
+        return lastStart;
+    }
+
+    /**
+     * @return
+     */
+    public Double getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    /**
+     * @return
+     */
+    public Double getMaxLagMillis() {
+        return maxLagMillis;
+    }
+
+    /**
+     * @return
+     */
+    public Double getLastDurationMillis() {
+        return lastDurationMillis;
+    }
+
+    /**
+     * @return
+     */
+    public Double getMaxDurationMillis() {
+        return maxDurationMillis;
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.scheduled;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTask;
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.executor.instrument.TaskTypes;
+
+/**
+ * Page of the periodic tasks running and of the tasks waiting in the delay queue of a scheduler, next to fire first.
+ * The delay queue is a heap copied under its lock to be read: it is only read up to {@value #MAX_SCANNED} tasks,
+ * only its size is returned beyond. Only the tasks of the page are described, by their instrumented task type,
+ * else by {@link TaskTypes#getTaskClass(Runnable)}.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public final class ScheduledTasks {
+
+    /**
+     * 
+     */
+    public static final int MAX_SCANNED = 10_000;
+    /**
+     * 
+     */
+    public static final int MAX_LIMIT = 1_000;
+
+    private ScheduledTasks() { }
+
+    /**
+     * @param executor
+     * @param instrumentation
+     * @param offset
+     * @param limit
+     * @return
+     */
+    public static ScheduledTasksDTO list(final ScheduledThreadPoolExecutor executor, final InstrumentedTaskDecorator instrumentation,
+            final int offset, final int limit) {
+        Assert.isTrue(offset >= 0, "Offset must be greater than or equal to 0");
+        Assert.isTrue(limit > 0 && limit <= MAX_LIMIT, "Limit must be greater than 0 and less than or equal to " + MAX_LIMIT);
+        final List<Entry> entries = new ArrayList<>();
+        if (instrumentation != null) {
+            for (InstrumentedTask task : instrumentation.getRunningScheduledTasks()) {
+                entries.add(new Entry((RunnableScheduledFuture<?>) task.getOriginal(), task, true));
+            }
+        }
+        final BlockingQueue<Runnable> queue = executor.getQueue();
+        final int size = queue.size();
+        final boolean complete = size <= MAX_SCANNED;
+        if (complete) {
+            for (Object element : queue.toArray()) {
+                if (element instanceof RunnableScheduledFuture<?> future) {
+                    // futures decorated by a ThreadPoolTaskScheduler task decorator
+                    entries.add(new Entry(future, ScheduledFutures.getDecoratedRunnable(future) instanceof InstrumentedTask instrumentedTask ? instrumentedTask : null, false));
+                }
+            }
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.delayNanos));
+        final List<ScheduledTaskDTO> tasks = new ArrayList<>(Math.min(limit, Math.max(0, entries.size() - offset)));
+        for (int i = offset; i < entries.size() && i < offset + limit; i++) {
+            tasks.add(entries.get(i).toDTO());
+        }
+        return new ScheduledTasksDTO(size, offset, limit, entries.size(), complete, tasks);
+    }
+
+    private static final class Entry {
+
+        private final RunnableScheduledFuture<?> future;
+        private final InstrumentedTask task;
+        private final boolean running;
+        private final long delayNanos;
+
+        private Entry(final RunnableScheduledFuture<?> future, final InstrumentedTask task, final boolean running) {
+            this.future = future;
+            this.task = task;
+            this.running = running;
+            this.delayNanos = future.getDelay(TimeUnit.NANOSECONDS);
+        }
+
+        private ScheduledTaskDTO toDTO() {
+            // task type resolved once at scheduling by the instrumentation
+            final String description = task != null
+                    ? task.getTaskType().getType()
+                    : TaskTypes.getTaskClass(ScheduledFutures.getFuture(future));
+            return new ScheduledTaskDTO(description, future, running, task != null ? task.getScheduledStatistics() : null);
+        }
+
+    }
+
+}
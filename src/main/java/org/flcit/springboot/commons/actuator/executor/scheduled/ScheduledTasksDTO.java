@@ -0,0 +1,85 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.scheduled;
+
+import java.util.List;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ScheduledTasksDTO {
+
+    private final int queueSize;
+    private final int offset;
+    private final int limit;
+    private final int scanned;
+    private final boolean complete;
+    private final List<ScheduledTaskDTO> tasks;
+
+    ScheduledTasksDTO(final int queueSize, final int offset, final int limit, final int scanned, final boolean complete, final List<ScheduledTaskDTO> tasks) {
+        this.queueSize = queueSize;
+        this.offset = offset;
+        this.limit = limit;
+        this.scanned = scanned;
+        this.complete = complete;
+        this.tasks = tasks;
+    }
+
+    /**
+     * @return
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * @return
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return running and queued tasks read
+     */
+    public int getScanned() {
+        return scanned;
+    }
+
+    /**
+     * @return false if the queue was too large to be read
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return
+     */
+    public List<ScheduledTaskDTO> getTasks() {
+        return tasks;
+    }
+
+}
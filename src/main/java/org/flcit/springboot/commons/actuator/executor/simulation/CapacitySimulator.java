@@ -0,0 +1,151 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.simulation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.executor.instrument.LatencyHistogram;
+
+/**
+ * Discrete-event simulation of a ThreadPoolExecutor configuration against the workload recorded by the instrumentation:
+ * inter-arrival and execution times are drawn from the distributions recorded during the last 5 to 10 minutes,
+ * or since the last reset of the workload.
+ * Threads follow the ThreadPoolExecutor policy (core threads, then queue, then threads up to the max, then rejection)
+ * and are never retired, keep alive is not simulated.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class CapacitySimulator {
+
+    private static final int TASKS = 100_000;
+    private static final long SEED = 42;
+
+    private final int corePoolSize;
+    private final int maxPoolSize;
+    private final int queueCapacity;
+    private final LongSupplier interArrival;
+    private final LongSupplier execution;
+    private final long recordedNanos;
+    private final long recordedTasks;
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final PriorityQueue<Long> completions = new PriorityQueue<>();
+    private final Deque<Long> queue = new ArrayDeque<>();
+    private int poolSize;
+    private int largestPoolSize;
+    private int largestQueueSize;
+    private long rejected;
+    private long busyNanos;
+    private long poolNanos;
+    private long nanos;
+
+    private CapacitySimulator(final LatencyHistogram interArrival, final LatencyHistogram execution, final long recordedNanos,
+            final int corePoolSize, final int maxPoolSize, final int queueCapacity) {
+        final Random random = new Random(SEED);
+        this.corePoolSize = corePoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.queueCapacity = queueCapacity;
+        this.interArrival = interArrival.sampler(random);
+        this.execution = execution.sampler(random);
+        this.recordedNanos = recordedNanos;
+        this.recordedTasks = execution.getCount();
+    }
+
+    /**
+     * @param instrumentation
+     * @param corePoolSize
+     * @param maxPoolSize
+     * @param queueCapacity
+     * @return null if no workload has been recorded recently
+     */
+    public static SimulationDTO simulate(final InstrumentedTaskDecorator instrumentation, final int corePoolSize, final int maxPoolSize, final int queueCapacity) {
+        Assert.isTrue(corePoolSize >= 0, "CorePoolSize must be greater than or equal to 0");
+        Assert.isTrue(maxPoolSize > 0 && maxPoolSize >= corePoolSize, "MaxPoolSize must be greater than 0 and greater than or equal to corePoolSize");
+        Assert.isTrue(queueCapacity >= 0, "QueueCapacity must be greater than or equal to 0");
+        final LatencyHistogram interArrival = instrumentation.getInterArrival().snapshot();
+        final LatencyHistogram execution = instrumentation.getRecentExecution().snapshot();
+        if (interArrival.getCount() == 0 || execution.getCount() == 0) {
+            return null;
+        }
+        final long recordedNanos = System.nanoTime()
+                - Math.min(instrumentation.getInterArrival().getStartNanos(), instrumentation.getRecentExecution().getStartNanos());
+        return new CapacitySimulator(interArrival, execution, recordedNanos, corePoolSize, maxPoolSize, queueCapacity).run();
+    }
+
+    private SimulationDTO run() {
+        for (int i = 0; i < TASKS; i++) {
+            final long arrival = nanos + interArrival.getAsLong();
+            completeUntil(arrival);
+            poolNanos += poolSize * (arrival - nanos);
+            nanos = arrival;
+            submit();
+        }
+        // tasks still queued or running at the end of the arrivals: the pool is up until the final completion
+        final long end = Math.max(nanos, completeUntil(Long.MAX_VALUE));
+        poolNanos += poolSize * (end - nanos);
+        return new SimulationDTO(corePoolSize, maxPoolSize, queueCapacity, TASKS, nanos, queueWait,
+                poolNanos > 0 ? Math.min(1d, busyNanos / (double) poolNanos) : 0d,
+                rejected / (double) TASKS, largestPoolSize, largestQueueSize, recordedNanos, recordedTasks);
+    }
+
+    private void submit() {
+        if (poolSize < corePoolSize || poolSize == 0) {
+            // a new thread is created for the task, even if other threads are idle
+            poolSize++;
+            start(nanos, nanos);
+        } else if (completions.size() < poolSize) {
+            start(nanos, nanos);
+        } else if (queue.size() < queueCapacity) {
+            queue.add(nanos);
+            largestQueueSize = Math.max(largestQueueSize, queue.size());
+        } else if (poolSize < maxPoolSize) {
+            poolSize++;
+            start(nanos, nanos);
+        } else {
+            rejected++;
+        }
+        largestPoolSize = Math.max(largestPoolSize, poolSize);
+    }
+
+    private long completeUntil(final long until) {
+        // a thread completing its task takes the next queued task
+        long last = 0;
+        while (!completions.isEmpty() && !queue.isEmpty() && completions.peek() <= until) {
+            final long completion = completions.poll();
+            start(queue.poll(), completion);
+            last = completion;
+        }
+        while (!completions.isEmpty() && completions.peek() <= until) {
+            last = completions.poll();
+        }
+        return last;
+    }
+
+    private void start(final long submitNanos, final long startNanos) {
+        final long duration = execution.getAsLong();
+        queueWait.record(startNanos - submitNanos);
+        busyNanos += duration;
+        completions.add(startNanos + duration);
+    }
+
+}
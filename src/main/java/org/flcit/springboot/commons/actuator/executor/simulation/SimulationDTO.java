@@ -0,0 +1,146 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.simulation;
+
+import org.flcit.springboot.commons.actuator.executor.LatencyDTO;
+import org.flcit.springboot.commons.actuator.executor.instrument.LatencyHistogram;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class SimulationDTO {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final int corePoolSize;
+    private final int maxPoolSize;
+    private final int queueCapacity;
+    private final int simulatedTasks;
+    private final double arrivalRatePerSecond;
+    private final LatencyDTO queueWait;
+    private final double utilization;
+    private final double rejectionProbability;
+    private final int largestPoolSize;
+    private final int largestQueueSize;
+    private final long recordingMillis;
+    private final long recordedTasks;
+
+    @SuppressWarnings("java:S107")
+    SimulationDTO(final int corePoolSize, final int maxPoolSize, final int queueCapacity, final int simulatedTasks, final long durationNanos,
+            final LatencyHistogram queueWait, final double utilization, final double rejectionProbability, final int largestPoolSize, final int largestQueueSize,
+            final long recordingNanos, final long recordedTasks) {
+        this.corePoolSize = corePoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.queueCapacity = queueCapacity;
+        this.simulatedTasks = simulatedTasks;
+        this.arrivalRatePerSecond = durationNanos > 0 ? simulatedTasks * NANOS_PER_SECOND / durationNanos : 0d;
+        this.queueWait = new LatencyDTO(queueWait);
+        this.utilization = utilization;
+        this.rejectionProbability = rejectionProbability;
+        this.largestPoolSize = largestPoolSize;
+        this.largestQueueSize = largestQueueSize;
+        this.recordingMillis = recordingNanos / NANOS_PER_MILLI;
+        this.recordedTasks = recordedTasks;
+    }
+
+    /**
+     * @return
+     */
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    /**
+     * @return
+     */
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * @return
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return
+     */
+    public int getSimulatedTasks() {
+        return simulatedTasks;
+    }
+
+    /**
+     * @return
+     */
+    public double getArrivalRatePerSecond() {
+        return arrivalRatePerSecond;
+    }
+
+    /**
+     * @return predicted wait in queue of the accepted tasks
+     */
+    public LatencyDTO getQueueWait() {
+        return queueWait;
+    }
+
+    /**
+     * @return busy time of the threads on their lifetime, between 0 and 1
+     */
+    public double getUtilization() {
+        return utilization;
+    }
+
+    /**
+     * @return
+     */
+    public double getRejectionProbability() {
+        return rejectionProbability;
+    }
+
+    /**
+     * @return
+     */
+    public int getLargestPoolSize() {
+        return largestPoolSize;
+    }
+
+    /**
+     * @return
+     */
+    public int getLargestQueueSize() {
+        return largestQueueSize;
+    }
+
+    /**
+     * @return duration of the recording of the replayed workload
+     */
+    public long getRecordingMillis() {
+        return recordingMillis;
+    }
+
+    /**
+     * @return executions recorded during the recording of the replayed workload
+     */
+    public long getRecordedTasks() {
+        return recordedTasks;
+    }
+
+}
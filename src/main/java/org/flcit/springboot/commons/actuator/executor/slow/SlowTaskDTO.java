@@ -0,0 +1,81 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.slow;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class SlowTaskDTO {
+
+    private final String taskClass;
+    private final String thread;
+    private final long startNanos;
+    private final List<String> stack;
+    private final boolean interrupted;
+
+    SlowTaskDTO(final String taskClass, final String thread, final long startNanos, final List<String> stack, final boolean interrupted) {
+        this.taskClass = taskClass;
+        this.thread = thread;
+        this.startNanos = startNanos;
+        this.stack = stack;
+        this.interrupted = interrupted;
+    }
+
+    /**
+     * @return
+     */
+    public String getTaskClass() {
+        return taskClass;
+    }
+
+    /**
+     * @return
+     */
+    public String getThread() {
+        return thread;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * @return
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return stack captured when the task was flagged
+     */
+    public List<String> getStack() {
+        return stack;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.slow;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTask;
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+
+/**
+ * Flags the running tasks of an instrumented executor exceeding a threshold: the stack of the thread is captured once,
+ * the thread is optionally interrupted and the slow tasks are counted by task class.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class SlowTaskWatchdog implements Runnable {
+
+    private static final int MAX_STACK_DEPTH = 64;
+
+    private final InstrumentedTaskDecorator instrumentation;
+    private final long thresholdMillis;
+    private final long intervalMillis;
+    private final boolean interrupt;
+    private final Map<InstrumentedTask, SlowTaskDTO> slowTasks = new HashMap<>();
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+
+    private ScheduledFuture<?> future;
+    private long slowCount;
+    private long interruptedCount;
+
+    /**
+     * @param instrumentation
+     * @param thresholdMillis
+     * @param intervalMillis
+     * @param interrupt
+     */
+    public SlowTaskWatchdog(final InstrumentedTaskDecorator instrumentation, final long thresholdMillis, final long intervalMillis, final boolean interrupt) {
+        Assert.notNull(instrumentation, "Instrumentation must not be null");
+        Assert.isTrue(thresholdMillis > 0, "ThresholdMillis must be greater than 0");
+        Assert.isTrue(intervalMillis > 0, "IntervalMillis must be greater than 0");
+        this.instrumentation = instrumentation;
+        this.thresholdMillis = thresholdMillis;
+        this.intervalMillis = intervalMillis;
+        this.interrupt = interrupt;
+    }
+
+    /**
+     * @param scheduler
+     */
+    public synchronized void start(final ScheduledExecutorService scheduler) {
+        if (isRunning()) {
+            return;
+        }
+        future = scheduler.scheduleWithFixedDelay(this, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 
+     */
+    public synchronized void stop() {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    /**
+     * @return
+     */
+    public synchronized boolean isRunning() {
+        return future != null && !future.isDone();
+    }
+
+    /**
+     *
+     */
+    @Override
+    public synchronized void run() {
+        final long nanos = System.nanoTime();
+        final Iterator<Entry<InstrumentedTask, SlowTaskDTO>> iterator = slowTasks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Entry<InstrumentedTask, SlowTaskDTO> entry = iterator.next();
+            // completed or, for a periodic task, running again
+            if (entry.getKey().getThread() == null || entry.getKey().getStartNanos() != entry.getValue().getStartNanos()) {
+                iterator.remove();
+            }
+        }
+        for (InstrumentedTask task : instrumentation.getRunningTasks()) {
+            final Thread thread = task.getThread();
+            final long startNanos = task.getStartNanos();
+            if (thread != null
+                    && TimeUnit.NANOSECONDS.toMillis(nanos - startNanos) >= thresholdMillis
+                    && !slowTasks.containsKey(task)) {
+                flag(task, thread, startNanos);
+            }
+        }
+    }
+
+    private void flag(final InstrumentedTask task, final Thread thread, final long startNanos) {
+        final List<String> stack = getStack(thread.getStackTrace());
+        // the thread may have moved on to another task while the stack was captured
+        if (task.getThread() != thread || task.getStartNanos() != startNanos) {
+            return;
+        }
+        final String taskClass = task.getTaskType().getType();
+        final boolean interrupted = interrupt;
+        if (interrupted) {
+            thread.interrupt();
+            interruptedCount++;
+        }
+        slowTasks.put(task, new SlowTaskDTO(taskClass, thread.getName(), startNanos, stack, interrupted));
+        counts.merge(taskClass, 1L, Long::sum);
+        slowCount++;
+    }
+
+    private static final List<String> getStack(final StackTraceElement[] elements) {
+        final List<String> stack = new ArrayList<>(Math.min(elements.length, MAX_STACK_DEPTH));
+        for (int i = 0; i < elements.length && i < MAX_STACK_DEPTH; i++) {
+            stack.add(elements[i].toString());
+        }
+        return stack;
+    }
+
+    /**
+     * @return
+     */
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    /**
+     * @return
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isInterrupt() {
+        return interrupt;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized long getSlowCount() {
+        return slowCount;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized long getInterruptedCount() {
+        return interruptedCount;
+    }
+
+    /**
+     * @return slow tasks flagged by task class
+     */
+    public synchronized Map<String, Long> getCounts() {
+        return new LinkedHashMap<>(counts);
+    }
+
+    /**
+     * @return slow tasks still running, oldest first
+     */
+    public synchronized List<SlowTaskDTO> getSlowTasks() {
+        final List<SlowTaskDTO> tasks = new ArrayList<>(slowTasks.values());
+        tasks.sort((a, b) -> Long.compare(a.getStartNanos(), b.getStartNanos()));
+        return tasks;
+    }
+
+    /**
+     * @return
+     */
+    public SlowTasksDTO toDTO() {
+        return new SlowTasksDTO(this);
+    }
+
+}
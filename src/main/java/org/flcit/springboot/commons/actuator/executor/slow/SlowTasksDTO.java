@@ -0,0 +1,104 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.slow;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class SlowTasksDTO {
+
+    private final boolean running;
+    private final long thresholdMillis;
+    private final long intervalMillis;
+    private final boolean interrupt;
+    private final long slowCount;
+    private final long interruptedCount;
+    private final Map<String, Long> counts;
+    private final List<SlowTaskDTO> tasks;
+
+    SlowTasksDTO(final SlowTaskWatchdog watchdog) {
+        this.running = watchdog.isRunning();
+        this.thresholdMillis = watchdog.getThresholdMillis();
+        this.intervalMillis = watchdog.getIntervalMillis();
+        this.interrupt = watchdog.isInterrupt();
+        this.slowCount = watchdog.getSlowCount();
+        this.interruptedCount = watchdog.getInterruptedCount();
+        this.counts = watchdog.getCounts();
+        this.tasks = watchdog.getSlowTasks();
+    }
+
+    /**
+     * @return
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return
+     */
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    /**
+     * @return
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isInterrupt() {
+        return interrupt;
+    }
+
+    /**
+     * @return
+     */
+    public long getSlowCount() {
+        return slowCount;
+    }
+
+    /**
+     * @return
+     */
+    public long getInterruptedCount() {
+        return interruptedCount;
+    }
+
+    /**
+     * @return slow tasks by task class
+     */
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    /**
+     * @return slow tasks still running
+     */
+    public List<SlowTaskDTO> getTasks() {
+        return tasks;
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.striped;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class HotKeyDTO {
+
+    private final String key;
+    private final int stripe;
+    private final long count;
+    private final double share;
+    private final boolean hot;
+
+    HotKeyDTO(final String key, final int stripe, final long count, final double share, final boolean hot) {
+        this.key = key;
+        this.stripe = stripe;
+        this.count = count;
+        this.share = share;
+        this.hot = hot;
+    }
+
+    /**
+     * @return
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return
+     */
+    public int getStripe() {
+        return stripe;
+    }
+
+    /**
+     * @return estimated number of executions on the decaying window
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return estimated share of the executions on the decaying window
+     */
+    public double getShare() {
+        return share;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isHot() {
+        return hot;
+    }
+
+}
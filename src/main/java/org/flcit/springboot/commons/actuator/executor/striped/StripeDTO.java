@@ -0,0 +1,74 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.striped;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class StripeDTO {
+
+    private final int index;
+    private final int backlog;
+    private final long executedCount;
+    private final long failedCount;
+    private final boolean active;
+
+    StripeDTO(final int index, final int backlog, final long executedCount, final long failedCount, final boolean active) {
+        this.index = index;
+        this.backlog = backlog;
+        this.executedCount = executedCount;
+        this.failedCount = failedCount;
+        this.active = active;
+    }
+
+    /**
+     * @return
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return number of queued tasks
+     */
+    public int getBacklog() {
+        return backlog;
+    }
+
+    /**
+     * @return
+     */
+    public long getExecutedCount() {
+        return executedCount;
+    }
+
+    /**
+     * @return
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * @return true if the stripe is running or scheduled on the delegate
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+}
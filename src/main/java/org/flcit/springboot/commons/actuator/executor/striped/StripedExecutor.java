@@ -0,0 +1,443 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.striped;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Executes the tasks of a same key serially, in submission order, on a delegate executor.
+ * Keys are hashed on stripes, each stripe has a lock-free queue drained by at most one task of the delegate at a time,
+ * by batches of {@value #BATCH_SIZE} tasks so that the stripes share the delegate threads.
+ * Changing the number of stripes keeps the ordering: the new stripes start once the previous ones are drained.
+ * A backlog the delegate refuses to run is drained by the thread that tried to schedule it, as {@code CallerRunsPolicy}, rather than stranded.
+ * A failing task is counted and logged, the next tasks of the stripe are run.
+ * Hot keys are estimated by stripe on a decaying window with the Space-Saving algorithm.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class StripedExecutor implements TaskExecutor {
+
+    /**
+     * 
+     */
+    public static final int DEFAULT_STRIPES = 16;
+
+    private static final int BATCH_SIZE = 64;
+    private static final int MAX_TRACKED_KEYS = 8;
+    private static final int MAX_HOT_KEYS = 10;
+    private static final long DECAY_WINDOW = 1L << 16;
+    private static final Log LOG = LogFactory.getLog(StripedExecutor.class);
+
+    private final Executor delegate;
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong callerDrainedCount = new AtomicLong();
+    private volatile Generation generation;
+
+    /**
+     * @param delegate
+     */
+    public StripedExecutor(final Executor delegate) {
+        this(delegate, DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param delegate executor running the stripes
+     * @param stripes
+     */
+    public StripedExecutor(final Executor delegate, final int stripes) {
+        Assert.notNull(delegate, "Delegate must not be null");
+        Assert.isTrue(stripes > 0, "Stripes must be greater than 0");
+        this.delegate = delegate;
+        this.generation = new Generation(stripes);
+        this.generation.open();
+    }
+
+    /**
+     * Executes {@link KeyedTask} serially by key, any other task directly on the delegate.
+     */
+    @Override
+    public void execute(final Runnable task) {
+        if (task instanceof KeyedTask keyedTask) {
+            execute(keyedTask.getKey(), task);
+        } else {
+            delegate.execute(task);
+        }
+    }
+
+    /**
+     * @param key
+     * @param task executed after the previously submitted tasks of the same key
+     */
+    public void execute(final Object key, final Runnable task) {
+        Assert.notNull(key, "Key must not be null");
+        Assert.notNull(task, "Task must not be null");
+        while (!generation.submit(key, task)) {
+            // the stripes have been replaced concurrently
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * @return
+     */
+    public Executor getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return
+     */
+    public int getStripes() {
+        return generation.stripes.length;
+    }
+
+    /**
+     * @param stripes
+     */
+    public synchronized void setStripes(final int stripes) {
+        Assert.isTrue(stripes > 0, "Stripes must be greater than 0");
+        final Generation previous = generation;
+        if (previous.stripes.length == stripes) {
+            return;
+        }
+        final Generation next = new Generation(stripes);
+        previous.next = next;
+        generation = next;
+        previous.retire();
+    }
+
+    /**
+     * @return true while the previous stripes are drained after a change of the number of stripes
+     */
+    public boolean isResizing() {
+        return !generation.open;
+    }
+
+    /**
+     * @return failed tasks since the creation, whatever the number of stripes
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return batches refused by the delegate and drained by the thread trying to schedule them
+     */
+    public long getCallerDrainedCount() {
+        return callerDrainedCount.get();
+    }
+
+    /**
+     * @return
+     */
+    public List<StripeDTO> getStripeStatistics() {
+        final Stripe[] stripes = generation.stripes;
+        final List<StripeDTO> res = new ArrayList<>(stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            final Stripe stripe = stripes[i];
+            res.add(new StripeDTO(i, stripe.backlog.get(), stripe.executedCount.get(), stripe.failedCount.get(), stripe.scheduled.get()));
+        }
+        return res;
+    }
+
+    /**
+     * @return most frequent keys on the decaying window, a key is hot when it takes at least the share of one stripe
+     */
+    public List<HotKeyDTO> getHotKeys() {
+        final Stripe[] stripes = generation.stripes;
+        long total = 0;
+        final List<HotKeyDTO> keys = new ArrayList<>();
+        for (Stripe stripe: stripes) {
+            total += stripe.window.get();
+        }
+        if (total == 0) {
+            return keys;
+        }
+        for (int i = 0; i < stripes.length; i++) {
+            for (Map.Entry<Object, Long> entry: stripes[i].counts.entrySet()) {
+                final double share = (double) entry.getValue() / total;
+                keys.add(new HotKeyDTO(String.valueOf(entry.getKey()), i, entry.getValue(), share, share >= 1d / stripes.length));
+            }
+        }
+        keys.sort(Comparator.comparingLong(HotKeyDTO::getCount).reversed());
+        return keys.size() > MAX_HOT_KEYS ? new ArrayList<>(keys.subList(0, MAX_HOT_KEYS)) : keys;
+    }
+
+    private static int spread(final Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private final class Generation {
+
+        private final Stripe[] stripes;
+        private final AtomicInteger submitting = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicBoolean handedOver = new AtomicBoolean();
+        private volatile boolean open;
+        private volatile boolean retired;
+        private volatile Generation next;
+
+        private Generation(final int stripes) {
+            this.stripes = new Stripe[stripes];
+            for (int i = 0; i < stripes; i++) {
+                this.stripes[i] = new Stripe(this);
+            }
+        }
+
+        private boolean submit(final Object key, final Runnable task) {
+            submitting.incrementAndGet();
+            try {
+                if (retired) {
+                    return false;
+                }
+                stripes[Math.floorMod(spread(key), stripes.length)].submit(key, task);
+                return true;
+            } finally {
+                if (submitting.decrementAndGet() == 0 && retired) {
+                    handOver();
+                }
+            }
+        }
+
+        private void open() {
+            open = true;
+            for (Stripe stripe: stripes) {
+                stripe.scheduleOrDrain();
+            }
+            if (retired) {
+                handOver();
+            }
+        }
+
+        private void retire() {
+            retired = true;
+            handOver();
+        }
+
+        private void handOver() {
+            // submitters check retired after registering, drained stripes stay drained once nobody can submit
+            if (open
+                    && submitting.get() == 0
+                    && active.get() == 0
+                    && isDrained()
+                    && handedOver.compareAndSet(false, true)) {
+                next.open();
+            }
+        }
+
+        private boolean isDrained() {
+            for (Stripe stripe: stripes) {
+                if (!stripe.queue.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    private final class Stripe implements Runnable {
+
+        private final Generation generation;
+        private final Queue<KeyedEntry> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicInteger backlog = new AtomicInteger();
+        private final AtomicLong executedCount = new AtomicLong();
+        private final AtomicLong failedCount = new AtomicLong();
+        private final AtomicLong window = new AtomicLong();
+        // written by the draining task only
+        private final Map<Object, Long> counts = new ConcurrentHashMap<>();
+
+        private Stripe(final Generation generation) {
+            this.generation = generation;
+        }
+
+        private void submit(final Object key, final Runnable task) {
+            final KeyedEntry entry = new KeyedEntry(key, task);
+            queue.offer(entry);
+            backlog.incrementAndGet();
+            if (generation.open) {
+                try {
+                    schedule();
+                } catch (RejectedExecutionException e) {
+                    if (queue.remove(entry)) {
+                        backlog.decrementAndGet();
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        private boolean acquire() {
+            if (scheduled.compareAndSet(false, true)) {
+                generation.active.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        private void schedule() {
+            if (acquire()) {
+                try {
+                    delegate.execute(this);
+                } catch (RejectedExecutionException e) {
+                    idle();
+                    throw e;
+                }
+            }
+        }
+
+        private void scheduleOrDrain() {
+            if (!queue.isEmpty() && !scheduleNext()) {
+                run();
+            }
+        }
+
+        /**
+         * @return false if the delegate refused the stripe and the current thread must drain it
+         */
+        private boolean scheduleNext() {
+            try {
+                schedule();
+                return true;
+            } catch (RejectedExecutionException e) {
+                // the stripe would be stranded, and a retired generation would never hand over
+                if (acquire()) {
+                    callerDrainedCount.incrementAndGet();
+                    return false;
+                }
+                // drained by another thread meanwhile
+                return true;
+            }
+        }
+
+        private void idle() {
+            scheduled.set(false);
+            generation.active.decrementAndGet();
+        }
+
+        @Override
+        public void run() {
+            boolean draining = true;
+            try {
+                while (draining) {
+                    try {
+                        runBatch();
+                    } finally {
+                        idle();
+                    }
+                    // the next batch is run by another task of the delegate so that the stripes share its threads
+                    draining = !queue.isEmpty() && !scheduleNext();
+                }
+            } finally {
+                if (draining) {
+                    // error thrown by a task: the backlog is left to another task of the delegate
+                    scheduleQuietly();
+                }
+                if (generation.retired) {
+                    generation.handOver();
+                }
+            }
+        }
+
+        private void scheduleQuietly() {
+            if (!queue.isEmpty()) {
+                try {
+                    schedule();
+                } catch (RejectedExecutionException e) {
+                    // scheduled again by the next submission
+                }
+            }
+        }
+
+        private void runBatch() {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                final KeyedEntry entry = queue.poll();
+                if (entry == null) {
+                    return;
+                }
+                backlog.decrementAndGet();
+                run(entry);
+            }
+        }
+
+        private void run(final KeyedEntry entry) {
+            try {
+                entry.task.run();
+            } catch (RuntimeException e) {
+                // thrown to the delegate, it would end the batch and possibly its thread
+                failedCount.incrementAndGet();
+                StripedExecutor.this.failedCount.incrementAndGet();
+                LOG.warn("Task of key " + entry.key + " failed", e);
+            } finally {
+                executedCount.incrementAndGet();
+                record(entry.key);
+            }
+        }
+
+        private void record(final Object key) {
+            final long total = window.incrementAndGet();
+            final Long count = counts.get(key);
+            if (count != null) {
+                counts.put(key, count + 1);
+            } else if (counts.size() < MAX_TRACKED_KEYS) {
+                counts.put(key, 1L);
+            } else {
+                // Space-Saving: the new key replaces the least frequent one and inherits its count
+                final Map.Entry<Object, Long> min = counts.entrySet().stream().min(Map.Entry.comparingByValue()).orElseThrow();
+                counts.remove(min.getKey());
+                counts.put(key, min.getValue() + 1);
+            }
+            if (total >= DECAY_WINDOW) {
+                window.set(total / 2);
+                counts.replaceAll((k, v) -> v / 2);
+                counts.values().removeIf(v -> v == 0);
+            }
+        }
+
+    }
+
+    private static final class KeyedEntry {
+
+        private final Object key;
+        private final Runnable task;
+
+        private KeyedEntry(final Object key, final Runnable task) {
+            this.key = key;
+            this.task = task;
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.thread;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorCpuDTO {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final int threadCount;
+    private final double cpuTimeMillis;
+    private final Double cpuTimeDeltaMillis;
+    private final long allocatedBytes;
+    private final Long allocatedBytesDelta;
+    private final Double intervalMillis;
+    private final Double cpuUsage;
+    private final boolean cpuTimeSupported;
+    private final boolean allocatedBytesSupported;
+
+    @SuppressWarnings("java:S107")
+    ExecutorCpuDTO(int threadCount, long cpuTimeNanos, long cpuTimeDeltaNanos, long allocatedBytes, long allocatedBytesDelta, long intervalNanos, boolean cpuTimeSupported, boolean allocatedBytesSupported) {
+        this.threadCount = threadCount;
+        this.cpuTimeMillis = cpuTimeNanos / NANOS_PER_MILLI;
+        // first sample: baseline without deltas
+        final boolean baseline = intervalNanos == 0;
+        this.cpuTimeDeltaMillis = baseline ? null : cpuTimeDeltaNanos / NANOS_PER_MILLI;
+        this.allocatedBytes = allocatedBytes;
+        this.allocatedBytesDelta = baseline ? null : allocatedBytesDelta;
+        this.intervalMillis = baseline ? null : intervalNanos / NANOS_PER_MILLI;
+        this.cpuUsage = intervalNanos > 0 && cpuTimeSupported ? Double.valueOf(cpuTimeDeltaNanos / (double) intervalNanos) : null;
+        this.cpuTimeSupported = cpuTimeSupported;
+        this.allocatedBytesSupported = allocatedBytesSupported;
+    }
+
+    /**
+     * @return
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * @return
+     */
+    public double getCpuTimeMillis() {
+        return cpuTimeMillis;
+    }
+
+    /**
+     * @return
+     */
+    public Double getCpuTimeDeltaMillis() {
+        return cpuTimeDeltaMillis;
+    }
+
+    /**
+     * @return
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return
+     */
+    public Long getAllocatedBytesDelta() {
+        return allocatedBytesDelta;
+    }
+
+    /**
+     * @return null for the first sample, the baseline of the next deltas
+     */
+    public Double getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * @return
+     */
+    public Double getCpuUsage() {
+        return cpuUsage;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isCpuTimeSupported() {
+        return cpuTimeSupported;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isAllocatedBytesSupported() {
+        return allocatedBytesSupported;
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.thread;
+
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sums the CPU time and allocated bytes of the threads of an executor, as deltas since the previous sample.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorCpuSampler {
+
+    private Map<Long, long[]> previous = new HashMap<>();
+    private long previousNanos;
+
+    /**
+     * @param threadIds
+     * @return
+     */
+    public synchronized ExecutorCpuDTO sample(final long[] threadIds) {
+        final ThreadMXBean threadMXBean = ExecutorThreads.getThreadMXBean();
+        final com.sun.management.ThreadMXBean extendedThreadMXBean = threadMXBean instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled() ? bean : null;
+        final boolean cpuTime = threadMXBean.isThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        final long[] allocatedBytes = extendedThreadMXBean != null ? extendedThreadMXBean.getThreadAllocatedBytes(threadIds) : null;
+        final long nanos = System.nanoTime();
+        final Map<Long, long[]> current = new HashMap<>(threadIds.length * 2);
+        long cpuTimeTotal = 0;
+        long cpuTimeDelta = 0;
+        long allocatedBytesTotal = 0;
+        long allocatedBytesDelta = 0;
+        for (int i = 0; i < threadIds.length; i++) {
+            final long threadCpuTime = cpuTime ? threadMXBean.getThreadCpuTime(threadIds[i]) : -1;
+            final long threadAllocatedBytes = allocatedBytes != null ? allocatedBytes[i] : -1;
+            if (threadCpuTime < 0 && threadAllocatedBytes < 0) {
+                continue;
+            }
+            final long[] previousThread = previous.get(threadIds[i]);
+            cpuTimeTotal += Math.max(0, threadCpuTime);
+            allocatedBytesTotal += Math.max(0, threadAllocatedBytes);
+            cpuTimeDelta += Math.max(0, threadCpuTime - (previousThread != null ? previousThread[0] : 0));
+            allocatedBytesDelta += Math.max(0, threadAllocatedBytes - (previousThread != null ? previousThread[1] : 0));
+            current.put(threadIds[i], new long[] { threadCpuTime, threadAllocatedBytes });
+        }
+        final long intervalNanos = previousNanos == 0 ? 0 : nanos - previousNanos;
+        previous = current;
+        previousNanos = nanos;
+        return new ExecutorCpuDTO(current.size(), cpuTimeTotal, cpuTimeDelta, allocatedBytesTotal, allocatedBytesDelta, intervalNanos, cpuTime, allocatedBytes != null);
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.thread;
+
+import java.util.List;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorProfileDTO {
+
+    private final boolean running;
+    private final long intervalMillis;
+    private final long durationMillis;
+    private final long elapsedMillis;
+    private final int maxDepth;
+    private final int samples;
+    private final int threadSamples;
+    private final int droppedThreadSamples;
+    private final String failure;
+    private final List<String> collapsed;
+
+    @SuppressWarnings("java:S107")
+    ExecutorProfileDTO(boolean running, long intervalMillis, long durationMillis, long elapsedMillis, int maxDepth,
+            int samples, int threadSamples, int droppedThreadSamples, String failure, List<String> collapsed) {
+        this.running = running;
+        this.intervalMillis = intervalMillis;
+        this.durationMillis = durationMillis;
+        this.elapsedMillis = elapsedMillis;
+        this.maxDepth = maxDepth;
+        this.samples = samples;
+        this.threadSamples = threadSamples;
+        this.droppedThreadSamples = droppedThreadSamples;
+        this.failure = failure;
+        this.collapsed = collapsed;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * @return
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * @return
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * @return
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return
+     */
+    public int getThreadSamples() {
+        return threadSamples;
+    }
+
+    /**
+     * @return thread samples whose stack was not kept, beyond {@link ExecutorProfiler#MAX_STACKS} distinct stacks
+     */
+    public int getDroppedThreadSamples() {
+        return droppedThreadSamples;
+    }
+
+    /**
+     * @return
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Collapsed stacks (root frame first, stacks cut at maxDepth under a [truncated] root, frames separated by ';', followed by the sample count), most sampled first.
+     *
+     * @return
+     */
+    public List<String> getCollapsed() {
+        return collapsed;
+    }
+
+}
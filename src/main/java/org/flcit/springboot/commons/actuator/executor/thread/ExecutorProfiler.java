@@ -0,0 +1,152 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.thread;
+
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Samples the stacks of the threads of an executor at a fixed delay on a scheduler until the duration elapses,
+ * the collapsed stacks are polled with {@link #toDTO()} while and after it runs.
+ * Each sample captures at most maxDepth frames per thread, at most {@value #MAX_STACKS} distinct stacks are kept,
+ * the samples of the next ones are only counted as dropped.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorProfiler implements Runnable {
+
+    /**
+     * 
+     */
+    public static final int MAX_STACKS = 1_000;
+    private static final Log LOG = LogFactory.getLog(ExecutorProfiler.class);
+
+    private final Supplier<long[]> threadIds;
+    private final long intervalMillis;
+    private final long durationMillis;
+    private final int maxDepth;
+    private final Map<String, Integer> stacks = new HashMap<>();
+
+    private ScheduledFuture<?> future;
+    private long startNanos;
+    private long endNanos;
+    private int samples;
+    private int threadSamples;
+    private int droppedThreadSamples;
+    private String failure;
+
+    /**
+     * @param threadIds
+     * @param intervalMillis
+     * @param durationMillis
+     * @param maxDepth
+     */
+    public ExecutorProfiler(final Supplier<long[]> threadIds, final long intervalMillis, final long durationMillis, final int maxDepth) {
+        Assert.isTrue(intervalMillis > 0, "IntervalMillis must be greater than 0");
+        Assert.isTrue(durationMillis > 0, "DurationMillis must be greater than 0");
+        Assert.isTrue(maxDepth > 0, "MaxDepth must be greater than 0");
+        this.threadIds = threadIds;
+        this.intervalMillis = intervalMillis;
+        this.durationMillis = durationMillis;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * @param scheduler
+     */
+    public synchronized void start(final ScheduledExecutorService scheduler) {
+        if (isRunning()) {
+            return;
+        }
+        startNanos = System.nanoTime();
+        endNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        future = scheduler.scheduleWithFixedDelay(this, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 
+     */
+    public synchronized void stop() {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    /**
+     * @return
+     */
+    public synchronized boolean isRunning() {
+        return future != null && !future.isDone();
+    }
+
+    /**
+     *
+     */
+    @Override
+    public synchronized void run() {
+        if (System.nanoTime() - endNanos >= 0) {
+            stop();
+            return;
+        }
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            failure = e.toString();
+            LOG.warn("Executor profiling failed", e);
+            stop();
+        }
+    }
+
+    private void sample() {
+        final ThreadMXBean threadMXBean = ExecutorThreads.getThreadMXBean();
+        for (ThreadInfo info : threadMXBean.getThreadInfo(threadIds.get(), maxDepth)) {
+            final String stack = info != null ? ExecutorStackSampler.collapse(info.getStackTrace(), maxDepth) : null;
+            if (stack == null) {
+                continue;
+            }
+            if (stacks.size() < MAX_STACKS || stacks.containsKey(stack)) {
+                stacks.merge(stack, 1, Integer::sum);
+            } else {
+                droppedThreadSamples++;
+            }
+            threadSamples++;
+        }
+        samples++;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized ExecutorProfileDTO toDTO() {
+        return new ExecutorProfileDTO(isRunning(), intervalMillis, durationMillis,
+                TimeUnit.NANOSECONDS.toMillis(Math.min(System.nanoTime(), endNanos) - startNanos), maxDepth,
+                samples, threadSamples, droppedThreadSamples, failure, ExecutorStackSampler.toCollapsed(stacks));
+    }
+
+}
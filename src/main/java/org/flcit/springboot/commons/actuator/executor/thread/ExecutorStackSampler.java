@@ -0,0 +1,90 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.thread;
+
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Thread dumps of the threads of an executor and collapsed stacks (flame graph input) for {@link ExecutorProfiler}.
+ * Idle pool workers waiting for a task are ignored.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public final class ExecutorStackSampler {
+
+    private static final String IDLE_FRAME = "java.util.concurrent.ThreadPoolExecutor.getTask";
+    private static final String FORK_JOIN_IDLE_FRAME = "java.util.concurrent.ForkJoinPool.awaitWork";
+    private static final String TRUNCATED_FRAME = "[truncated]";
+
+    private ExecutorStackSampler() { }
+
+    /**
+     * @param threadIds
+     * @param maxDepth
+     * @return
+     */
+    public static ExecutorThreadDumpDTO dump(final long[] threadIds, final int maxDepth) {
+        final ThreadMXBean threadMXBean = ExecutorThreads.getThreadMXBean();
+        return new ExecutorThreadDumpDTO(Arrays.stream(threadMXBean.getThreadInfo(threadIds,
+                threadMXBean.isObjectMonitorUsageSupported(),
+                threadMXBean.isSynchronizerUsageSupported(),
+                maxDepth))
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    static final String collapse(final StackTraceElement[] stackTrace, final int maxDepth) {
+        if (stackTrace.length == 0) {
+            return null;
+        }
+        final StringBuilder sb = new StringBuilder(stackTrace.length * 48);
+        // a stack cut at maxDepth lost its root frames: keep the truncated stacks together in the flame graph
+        if (stackTrace.length >= maxDepth) {
+            sb.append(TRUNCATED_FRAME);
+        }
+        for (int i = stackTrace.length - 1; i >= 0; i--) {
+            final String frame = getClassName(stackTrace[i]) + '.' + stackTrace[i].getMethodName();
+            if (IDLE_FRAME.equals(frame) || FORK_JOIN_IDLE_FRAME.equals(frame)) {
+                return null;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(';');
+            }
+            sb.append(frame);
+        }
+        return sb.toString();
+    }
+
+    private static final String getClassName(final StackTraceElement element) {
+        // hidden classes (lambdas) carry a per-run suffix that would split identical stacks
+        final int index = element.getClassName().indexOf('/');
+        return index < 0 ? element.getClassName() : element.getClassName().substring(0, index);
+    }
+
+    static final List<String> toCollapsed(final Map<String, Integer> stacks) {
+        return stacks.entrySet().stream()
+                .sorted(Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> entry.getKey() + ' ' + entry.getValue())
+                .toList();
+    }
+
+}
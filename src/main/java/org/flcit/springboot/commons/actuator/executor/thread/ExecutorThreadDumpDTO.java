@@ -0,0 +1,54 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.thread;
+
+import java.lang.management.ThreadInfo;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorThreadDumpDTO {
+
+    private final Map<Thread.State, Integer> states = new EnumMap<>(Thread.State.class);
+    private final List<ThreadInfo> threads;
+
+    ExecutorThreadDumpDTO(List<ThreadInfo> threads) {
+        this.threads = threads;
+        for (ThreadInfo thread : threads) {
+            states.merge(thread.getThreadState(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * @return
+     */
+    public Map<Thread.State, Integer> getStates() {
+        return states;
+    }
+
+    /**
+     * @return
+     */
+    public List<ThreadInfo> getThreads() {
+        return threads;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.thread;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.util.CustomizableThreadCreator;
+import org.springframework.util.StringUtils;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public final class ExecutorThreads {
+
+    private ExecutorThreads() { }
+
+    /**
+     * Threads registered by the instrumented thread factory, workers of a fork join pool, or live threads whose name starts with the executor thread name prefix.
+     *
+     * @param executor
+     * @return
+     */
+    @SuppressWarnings("deprecation")
+    public static long[] getThreadIds(final Object executor) {
+        final InstrumentedTaskDecorator instrumentation = CommonsActuatorUtils.getInstrumentation(executor);
+        if (instrumentation != null) {
+            return instrumentation.getThreads().stream()
+                    .filter(Thread::isAlive)
+                    .mapToLong(Thread::getId)
+                    .toArray();
+        }
+        final Object unwrapped = CommonsActuatorUtils.unwrap(executor);
+        if (unwrapped instanceof ForkJoinPool forkJoinPool) {
+            return getThreadIds(forkJoinPool);
+        }
+        final Object threadCreator = unwrapped instanceof ThreadPoolExecutor tpe ? tpe.getThreadFactory() : unwrapped;
+        if (threadCreator instanceof CustomizableThreadCreator customizableThreadCreator
+                && StringUtils.hasLength(customizableThreadCreator.getThreadNamePrefix())) {
+            return getThreadIds(customizableThreadCreator.getThreadNamePrefix());
+        }
+        return new long[0];
+    }
+
+    @SuppressWarnings("deprecation")
+    private static final long[] getThreadIds(final ForkJoinPool forkJoinPool) {
+        ThreadGroup group = Thread.currentThread().getThreadGroup();
+        while (group.getParent() != null) {
+            group = group.getParent();
+        }
+        Thread[] threads = new Thread[group.activeCount() + 16];
+        int count;
+        while ((count = group.enumerate(threads, true)) == threads.length) {
+            threads = new Thread[threads.length * 2];
+        }
+        return Arrays.stream(threads, 0, count)
+                .filter(thread -> thread instanceof ForkJoinWorkerThread worker && worker.getPool() == forkJoinPool)
+                .mapToLong(Thread::getId)
+                .toArray();
+    }
+
+    private static final long[] getThreadIds(final String threadNamePrefix) {
+        return Arrays.stream(getThreadMXBean().getThreadInfo(getThreadMXBean().getAllThreadIds(), 0))
+                .filter(info -> info != null && info.getThreadName().startsWith(threadNamePrefix))
+                .mapToLong(ThreadInfo::getThreadId)
+                .toArray();
+    }
+
+    /**
+     * @return
+     */
+    public static ThreadMXBean getThreadMXBean() {
+        return ManagementFactory.getThreadMXBean();
+    }
+
+}
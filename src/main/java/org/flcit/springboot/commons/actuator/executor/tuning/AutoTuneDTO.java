@@ -0,0 +1,95 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.tuning;
+
+import java.util.List;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class AutoTuneDTO {
+
+    private final boolean running;
+    private final int minPoolSize;
+    private final int maxPoolSize;
+    private final long intervalMillis;
+    private final long failureCount;
+    private final String lastFailure;
+    private final List<AutoTuneDecisionDTO> decisions;
+
+    AutoTuneDTO(final AutoTuner autoTuner) {
+        this.running = autoTuner.isRunning();
+        this.minPoolSize = autoTuner.getMinPoolSize();
+        this.maxPoolSize = autoTuner.getMaxPoolSize();
+        this.intervalMillis = autoTuner.getIntervalMillis();
+        this.failureCount = autoTuner.getFailureCount();
+        this.lastFailure = autoTuner.getLastFailure();
+        this.decisions = autoTuner.getDecisions();
+    }
+
+    /**
+     * @return
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return
+     */
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+
+    /**
+     * @return
+     */
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * @return
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * @return
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return
+     */
+    public String getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * @return
+     */
+    public List<AutoTuneDecisionDTO> getDecisions() {
+        return decisions;
+    }
+
+}
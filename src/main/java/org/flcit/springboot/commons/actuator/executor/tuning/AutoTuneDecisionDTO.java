@@ -0,0 +1,114 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.tuning;
+
+import java.time.Instant;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class AutoTuneDecisionDTO {
+
+    private final Instant timestamp;
+    private final double throughput;
+    private final double arrivalRate;
+    private final int queueSize;
+    private final double serviceTimeMillis;
+    private final int poolSize;
+    private final int targetPoolSize;
+    private final int newPoolSize;
+    private final String reason;
+
+    @SuppressWarnings("java:S107")
+    AutoTuneDecisionDTO(double throughput, double arrivalRate, int queueSize, double serviceTimeMillis, int poolSize, int targetPoolSize, int newPoolSize, String reason) {
+        this.timestamp = Instant.now();
+        this.throughput = throughput;
+        this.arrivalRate = arrivalRate;
+        this.queueSize = queueSize;
+        this.serviceTimeMillis = serviceTimeMillis;
+        this.poolSize = poolSize;
+        this.targetPoolSize = targetPoolSize;
+        this.newPoolSize = newPoolSize;
+        this.reason = reason;
+    }
+
+    /**
+     * @return
+     */
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return
+     */
+    public double getThroughput() {
+        return throughput;
+    }
+
+    /**
+     * @return
+     */
+    public double getArrivalRate() {
+        return arrivalRate;
+    }
+
+    /**
+     * @return
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * @return
+     */
+    public double getServiceTimeMillis() {
+        return serviceTimeMillis;
+    }
+
+    /**
+     * @return
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * @return
+     */
+    public int getTargetPoolSize() {
+        return targetPoolSize;
+    }
+
+    /**
+     * @return
+     */
+    public int getNewPoolSize() {
+        return newPoolSize;
+    }
+
+    /**
+     * @return
+     */
+    public String getReason() {
+        return reason;
+    }
+
+}
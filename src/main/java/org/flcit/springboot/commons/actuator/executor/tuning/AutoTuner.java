@@ -0,0 +1,274 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.tuning;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.util.CommonsActuatorUtils;
+
+/**
+ * Pool size controller based on Little's law: the number of threads needed is the arrival rate
+ * multiplied by the mean service time, plus what is needed to drain the current backlog within one interval.
+ * Increases are applied as soon as they exceed the hysteresis band, decreases only after
+ * {@value #DECREASE_SAMPLES} consecutive samples and by half of the gap.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class AutoTuner implements Runnable {
+
+    private static final Log LOG = LogFactory.getLog(AutoTuner.class);
+    private static final double TARGET_UTILIZATION = 0.8d;
+    private static final int DECREASE_SAMPLES = 3;
+    private static final int MAX_DECISIONS = 50;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final InstrumentedTaskDecorator instrumentation;
+    private final int minPoolSize;
+    private final int maxPoolSize;
+    private final long intervalMillis;
+    private final Deque<AutoTuneDecisionDTO> decisions = new ArrayDeque<>(MAX_DECISIONS);
+
+    private ScheduledFuture<?> future;
+    private ThreadPoolExecutor pool;
+    private long lastNanos;
+    private long lastCompleted;
+    private int lastQueueSize;
+    private long lastExecutionCount;
+    private long lastExecutionTotal;
+    private int decreaseSamples;
+    private long failureCount;
+    private String lastFailure;
+
+    /**
+     * @param executor
+     * @param minPoolSize
+     * @param maxPoolSize
+     * @param intervalMillis
+     */
+    public AutoTuner(final ThreadPoolTaskExecutor executor, final int minPoolSize, final int maxPoolSize, final long intervalMillis) {
+        Assert.isTrue(minPoolSize > 0, "MinPoolSize must be greater than 0");
+        Assert.isTrue(maxPoolSize >= minPoolSize, "MaxPoolSize must be greater than or equal to minPoolSize");
+        Assert.isTrue(intervalMillis > 0, "IntervalMillis must be greater than 0");
+        this.executor = executor;
+        this.instrumentation = CommonsActuatorUtils.getInstrumentation(executor);
+        this.minPoolSize = minPoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * @param scheduler
+     */
+    public synchronized void start(final ScheduledExecutorService scheduler) {
+        if (isRunning()) {
+            return;
+        }
+        sample(System.nanoTime());
+        decreaseSamples = 0;
+        future = scheduler.scheduleWithFixedDelay(this, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 
+     */
+    public synchronized void stop() {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    /**
+     * @return
+     */
+    public synchronized boolean isRunning() {
+        return future != null && !future.isDone();
+    }
+
+    /**
+     *
+     */
+    @Override
+    public synchronized void run() {
+        // an exception escaping a periodic task silently cancels every next execution
+        try {
+            tune();
+        } catch (RuntimeException e) {
+            failureCount++;
+            lastFailure = e.toString();
+            LOG.warn("Auto tuning failed", e);
+        }
+    }
+
+    private void tune() {
+        final ThreadPoolExecutor tpe = executor.getThreadPoolExecutor();
+        final long nanos = System.nanoTime();
+        if (tpe != pool) {
+            // pool recreated (start, virtual threads): its counters restart from zero
+            sample(nanos);
+            decreaseSamples = 0;
+            return;
+        }
+        final double seconds = (nanos - lastNanos) / NANOS_PER_SECOND;
+        final long completed = getCompletedTaskCount(tpe);
+        final int queueSize = tpe.getQueue().size();
+        final int active = instrumentation != null ? instrumentation.getStatistics().getActiveCount() : tpe.getActiveCount();
+        final double throughput = (completed - lastCompleted) / seconds;
+        final double arrivalRate = throughput + Math.max(0, queueSize - lastQueueSize) / seconds;
+        final double serviceTimeSeconds = getServiceTimeSeconds(throughput, active);
+        sample(nanos);
+
+        final int poolSize = executor.getCorePoolSize();
+        final int targetPoolSize = clamp((int) Math.ceil(arrivalRate * serviceTimeSeconds / TARGET_UTILIZATION + queueSize * serviceTimeSeconds / seconds));
+        final int hysteresis = Math.max(1, poolSize / 10);
+        int newPoolSize = poolSize;
+        String reason;
+        if (poolSize < minPoolSize || poolSize > maxPoolSize) {
+            newPoolSize = clamp(poolSize);
+            decreaseSamples = 0;
+            reason = "bounds";
+        } else if (targetPoolSize - poolSize >= hysteresis) {
+            newPoolSize = targetPoolSize;
+            decreaseSamples = 0;
+            reason = "increase";
+        } else if (poolSize - targetPoolSize >= hysteresis) {
+            if (++decreaseSamples >= DECREASE_SAMPLES) {
+                newPoolSize = poolSize - Math.max(1, (poolSize - targetPoolSize) / 2);
+                reason = "decrease";
+                decreaseSamples = 0;
+            } else {
+                reason = "hold-decrease-" + decreaseSamples;
+            }
+        } else {
+            decreaseSamples = 0;
+            reason = "hold";
+        }
+        if (newPoolSize != poolSize) {
+            apply(newPoolSize);
+        }
+        addDecision(new AutoTuneDecisionDTO(throughput, arrivalRate, queueSize, serviceTimeSeconds * 1000d, poolSize, targetPoolSize, newPoolSize, reason));
+    }
+
+    private void sample(final long nanos) {
+        final ThreadPoolExecutor tpe = executor.getThreadPoolExecutor();
+        pool = tpe;
+        lastNanos = nanos;
+        lastCompleted = getCompletedTaskCount(tpe);
+        lastQueueSize = tpe.getQueue().size();
+        if (instrumentation != null) {
+            lastExecutionCount = instrumentation.getExecution().getCount();
+            lastExecutionTotal = instrumentation.getExecution().getTotal();
+        }
+    }
+
+    private long getCompletedTaskCount(final ThreadPoolExecutor tpe) {
+        return instrumentation != null ? instrumentation.getStatistics().getCompletedTaskCount() : tpe.getCompletedTaskCount();
+    }
+
+    private double getServiceTimeSeconds(final double throughput, final int active) {
+        if (instrumentation != null) {
+            final long count = instrumentation.getExecution().getCount() - lastExecutionCount;
+            if (count > 0) {
+                return (instrumentation.getExecution().getTotal() - lastExecutionTotal) / (double) count / NANOS_PER_SECOND;
+            }
+        }
+        return throughput > 0 ? active / throughput : 0;
+    }
+
+    private int clamp(final int poolSize) {
+        return Math.max(minPoolSize, Math.min(maxPoolSize, poolSize));
+    }
+
+    private void apply(final int poolSize) {
+        if (poolSize > executor.getMaxPoolSize()) {
+            executor.setMaxPoolSize(poolSize);
+        }
+        executor.setCorePoolSize(poolSize);
+    }
+
+    private void addDecision(final AutoTuneDecisionDTO decision) {
+        if (decisions.size() == MAX_DECISIONS) {
+            decisions.removeFirst();
+        }
+        decisions.addLast(decision);
+    }
+
+    /**
+     * @return
+     */
+    public int getMinPoolSize() {
+        return minPoolSize;
+    }
+
+    /**
+     * @return
+     */
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * @return
+     */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized String getLastFailure() {
+        return lastFailure;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized List<AutoTuneDecisionDTO> getDecisions() {
+        return new ArrayList<>(decisions);
+    }
+
+    /**
+     * @return
+     */
+    public AutoTuneDTO toDTO() {
+        return new AutoTuneDTO(this);
+    }
+
+}
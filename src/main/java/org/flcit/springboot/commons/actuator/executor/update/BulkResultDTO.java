@@ -0,0 +1,58 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.update;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class BulkResultDTO {
+
+    private final boolean success;
+    private final String error;
+
+    /**
+     * 
+     */
+    public BulkResultDTO() {
+        this.success = true;
+        this.error = null;
+    }
+
+    /**
+     * @param e
+     */
+    public BulkResultDTO(final Exception e) {
+        this.success = false;
+        this.error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+    }
+
+    /**
+     * @return
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * @return
+     */
+    public String getError() {
+        return error;
+    }
+
+}
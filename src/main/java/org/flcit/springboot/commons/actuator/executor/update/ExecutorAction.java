@@ -24,6 +24,6 @@ package org.flcit.springboot.commons.actuator.executor.update;
 @SuppressWarnings("squid:S115")
 public enum ExecutorAction {
 
-    purge, clear, start, shutdown, shutdownNow;
+    purge, clear, start, shutdown, shutdownNow, autoTune, stopAutoTune, drain, moveQueued, spillOver, stopSpillOver, watchSlow, stopWatchSlow, warmUp, profile, stopProfile, resetWorkload;
 
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.virtual;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Virtual thread factory counting the threads it creates, the threads alive and their pinned events.
+ * A SimpleAsyncTaskExecutor creates one thread per task, a ThreadPoolTaskExecutor one per worker:
+ * see {@link VirtualThreadsDTO} for the task counts.
+ * Keeps the thread factory it replaced, and whether the executor used its own virtual threads, to switch back.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class VirtualThreadFactory implements ThreadFactory {
+
+    private final ThreadFactory delegate;
+    private final ThreadFactory previous;
+    private final boolean previousVirtual;
+    private final String threadNamePrefix;
+    private final LongAdder created = new LongAdder();
+    private final LongAdder alive = new LongAdder();
+    private final LongAdder pinned = new LongAdder();
+
+    /**
+     * @param threadNamePrefix
+     * @param previous
+     * @throws UnsupportedOperationException before Java 21
+     */
+    public VirtualThreadFactory(final String threadNamePrefix, final ThreadFactory previous) {
+        this(threadNamePrefix, previous, false);
+    }
+
+    /**
+     * @param threadNamePrefix
+     * @param previous
+     * @param previousVirtual true if the executor used its own virtual threads before
+     * @throws UnsupportedOperationException before Java 21
+     */
+    public VirtualThreadFactory(final String threadNamePrefix, final ThreadFactory previous, final boolean previousVirtual) {
+        this.delegate = new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory();
+        this.previous = previous;
+        this.previousVirtual = previousVirtual;
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    /**
+     *
+     */
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        created.increment();
+        return delegate.newThread(() -> run(runnable));
+    }
+
+    private void run(final Runnable runnable) {
+        alive.increment();
+        try {
+            runnable.run();
+        } finally {
+            alive.decrement();
+        }
+    }
+
+    void pinned() {
+        pinned.increment();
+    }
+
+    /**
+     * @return
+     */
+    public ThreadFactory getPrevious() {
+        return previous;
+    }
+
+    /**
+     * @return
+     */
+    public boolean isPreviousVirtual() {
+        return previousVirtual;
+    }
+
+    /**
+     * @return
+     */
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    /**
+     * @return virtual threads created
+     */
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    /**
+     * @return virtual threads not terminated
+     */
+    public long getAliveCount() {
+        return Math.max(0, alive.sum());
+    }
+
+    /**
+     * @return
+     */
+    public long getPinnedCount() {
+        return pinned.sum();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.virtual;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Counts the jdk.VirtualThreadPinned JFR events of the virtual threads created by the registered factories,
+ * matched on the thread name prefix.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class VirtualThreadPinnedMonitor implements AutoCloseable {
+
+    private static final String EVENT_PINNED = "jdk.VirtualThreadPinned";
+
+    private final Set<VirtualThreadFactory> factories = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    /**
+     * @param factory
+     */
+    public synchronized void register(final VirtualThreadFactory factory) {
+        factories.add(factory);
+        if (stream == null) {
+            try {
+                final RecordingStream recordingStream = new RecordingStream();
+                recordingStream.enable(EVENT_PINNED).withThreshold(Duration.ofMillis(20));
+                recordingStream.onEvent(EVENT_PINNED, this::onPinned);
+                recordingStream.startAsync();
+                stream = recordingStream;
+            } catch (IllegalStateException | SecurityException e) {
+                // JFR not available: pinned events are not counted
+            }
+        }
+    }
+
+    /**
+     * @param factory
+     */
+    public void unregister(final VirtualThreadFactory factory) {
+        factories.remove(factory);
+    }
+
+    private void onPinned(final RecordedEvent event) {
+        final RecordedThread thread = event.getThread();
+        final String name = thread != null ? thread.getJavaName() : null;
+        if (name == null) {
+            return;
+        }
+        for (VirtualThreadFactory factory : factories) {
+            if (name.startsWith(factory.getThreadNamePrefix())) {
+                factory.pinned();
+                return;
+            }
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public synchronized void close() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.virtual;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.CustomizableThreadCreator;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedThreadFactory;
+import org.flcit.commons.core.util.ReflectionUtils;
+
+/**
+ * Switches a SimpleAsyncTaskExecutor or a ThreadPoolTaskExecutor between platform and virtual threads.
+ * A SimpleAsyncTaskExecutor runs each task on a new virtual thread, its concurrency limit still bounds the running tasks.
+ * A ThreadPoolTaskExecutor is not switched to a thread per task: its workers become pooled virtual threads, sized as before
+ * (only corePoolSize workers with the default unbounded queue, the max pool size is only reached once the queue is full).
+ * The pool of a ThreadPoolTaskExecutor is recreated on each switch: controllers bound to the previous pool must be re-targeted.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public final class VirtualThreads {
+
+    private static final String FIELD_THREAD_FACTORY = "threadFactory";
+    private static final String FIELD_VIRTUAL_THREAD_DELEGATE = "virtualThreadDelegate";
+    private static final String VIRTUAL_SUFFIX = "virtual-";
+
+    private VirtualThreads() { }
+
+    /**
+     * @param executor
+     * @return the virtual thread factory used by the executor or null
+     */
+    public static VirtualThreadFactory getFactory(final Object executor) {
+        final ThreadFactory threadFactory = getThreadFactory(executor);
+        final ThreadFactory delegate = threadFactory instanceof InstrumentedThreadFactory instrumentedThreadFactory
+                ? instrumentedThreadFactory.getDelegate()
+                : threadFactory;
+        return delegate instanceof VirtualThreadFactory virtualThreadFactory ? virtualThreadFactory : null;
+    }
+
+    /**
+     * @param executor
+     * @return the new virtual thread factory or null if already enabled
+     */
+    public static VirtualThreadFactory enable(final Object executor) {
+        assertSupported(executor);
+        if (getFactory(executor) != null) {
+            return null;
+        }
+        final ThreadFactory previous = getThreadFactory(executor);
+        final VirtualThreadFactory factory = new VirtualThreadFactory(getThreadNamePrefix((CustomizableThreadCreator) executor), previous,
+                isNativeVirtual(executor));
+        setThreadFactory(executor, previous instanceof InstrumentedThreadFactory instrumentedThreadFactory
+                ? new InstrumentedThreadFactory(factory, instrumentedThreadFactory.getInstrumentation())
+                : factory);
+        return factory;
+    }
+
+    /**
+     * @param executor
+     * @return the removed virtual thread factory or null if not enabled
+     */
+    public static VirtualThreadFactory disable(final Object executor) {
+        assertSupported(executor);
+        final VirtualThreadFactory factory = getFactory(executor);
+        if (factory != null) {
+            setThreadFactory(executor, factory.getPrevious());
+            if (factory.isPreviousVirtual()) {
+                ((SimpleAsyncTaskExecutor) executor).setVirtualThreads(true);
+            }
+        }
+        return factory;
+    }
+
+    private static void assertSupported(final Object executor) {
+        if (!(executor instanceof SimpleAsyncTaskExecutor || executor instanceof ThreadPoolTaskExecutor)) {
+            throw new IllegalArgumentException("Virtual threads are only supported by SimpleAsyncTaskExecutor and ThreadPoolTaskExecutor");
+        }
+    }
+
+    private static String getThreadNamePrefix(final CustomizableThreadCreator executor) {
+        return executor.getThreadNamePrefix() + VIRTUAL_SUFFIX;
+    }
+
+    private static boolean isNativeVirtual(final Object executor) {
+        // SimpleAsyncTaskExecutor#setVirtualThreads(true) sets a delegate bypassing the thread factory
+        return executor instanceof SimpleAsyncTaskExecutor
+                && ReflectionUtils.getSafeFieldValue(executor, FIELD_VIRTUAL_THREAD_DELEGATE, Object.class) != null;
+    }
+
+    private static ThreadFactory getThreadFactory(final Object executor) {
+        if (executor instanceof SimpleAsyncTaskExecutor simpleAsyncTaskExecutor) {
+            return simpleAsyncTaskExecutor.getThreadFactory();
+        }
+        if (executor instanceof ExecutorConfigurationSupport) {
+            return ReflectionUtils.getSafeFieldValue(executor, FIELD_THREAD_FACTORY, ThreadFactory.class);
+        }
+        return null;
+    }
+
+    private static void setThreadFactory(final Object executor, final ThreadFactory threadFactory) {
+        if (executor instanceof SimpleAsyncTaskExecutor simpleAsyncTaskExecutor) {
+            // a virtual thread delegate would bypass the thread factory
+            simpleAsyncTaskExecutor.setVirtualThreads(false);
+            simpleAsyncTaskExecutor.setThreadFactory(threadFactory);
+        } else if (executor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            threadPoolTaskExecutor.setThreadFactory(threadFactory);
+            // workers can not change their thread: the pool is recreated and the previous one completes its queue
+            final ThreadPoolExecutor previous = getSafeThreadPoolExecutor(threadPoolTaskExecutor);
+            threadPoolTaskExecutor.initialize();
+            if (previous != null) {
+                previous.shutdown();
+            }
+        }
+    }
+
+    private static ThreadPoolExecutor getSafeThreadPoolExecutor(final ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+}
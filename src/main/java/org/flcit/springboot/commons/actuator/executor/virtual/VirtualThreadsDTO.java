@@ -0,0 +1,84 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.virtual;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Task counts of the executor, from the pool of a ThreadPoolTaskExecutor (its virtual threads are workers),
+ * from the threads of a SimpleAsyncTaskExecutor (one thread per task).
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class VirtualThreadsDTO {
+
+    private final long threadCount;
+    private final long taskCount;
+    private final long runningCount;
+    private final long pinnedCount;
+
+    /**
+     * @param executor
+     * @param factory
+     */
+    public VirtualThreadsDTO(Object executor, VirtualThreadFactory factory) {
+        final ThreadPoolExecutor tpe = executor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor ? getSafeThreadPoolExecutor(threadPoolTaskExecutor) : null;
+        this.threadCount = factory.getCreatedCount();
+        this.taskCount = tpe != null ? tpe.getTaskCount() : factory.getCreatedCount();
+        this.runningCount = tpe != null ? tpe.getActiveCount() : factory.getAliveCount();
+        this.pinnedCount = factory.getPinnedCount();
+    }
+
+    private static final ThreadPoolExecutor getSafeThreadPoolExecutor(final ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return virtual threads created
+     */
+    public long getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * @return tasks submitted since virtual threads are enabled
+     */
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * @return tasks running
+     */
+    public long getRunningCount() {
+        return runningCount;
+    }
+
+    /**
+     * @return
+     */
+    public long getPinnedCount() {
+        return pinnedCount;
+    }
+
+}
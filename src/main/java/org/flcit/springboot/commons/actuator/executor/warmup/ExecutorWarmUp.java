@@ -0,0 +1,165 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.warmup;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.util.Assert;
+
+/**
+ * Prestarts the core threads of an executor and runs the warm-up tasks on them, a no-op task when none is registered.
+ * The tasks are put in the queue of the ThreadPoolExecutor: neither decorated, so not counted by the instrumentation,
+ * nor rejected. A scheduler, whose tasks cannot bypass its task decorator, only prestarts its core threads.
+ * The executor is ready once all its core threads are started and all the warm-up tasks completed.
+ *
+ * @since 
+ * @author Florian Lestic
+ */
+public class ExecutorWarmUp implements Runnable {
+
+    private static final long CHECK_INTERVAL_MILLIS = 100;
+
+    private final String name;
+    private final ThreadPoolExecutor tpe;
+    private final List<ExecutorWarmUpTask> tasks;
+    private final int iterations;
+    private final long timeoutMillis;
+    private final AtomicInteger completedTasks = new AtomicInteger();
+    private final AtomicInteger failedTasks = new AtomicInteger();
+
+    private ScheduledFuture<?> future;
+    private WarmUpState state = WarmUpState.warmingUp;
+    private long startMillis;
+    private long endMillis;
+    private int prestartedThreads;
+    private int submittedTasks;
+
+    /**
+     * @param name
+     * @param tpe
+     * @param tasks
+     * @param iterations
+     * @param timeoutMillis
+     */
+    public ExecutorWarmUp(final String name, final ThreadPoolExecutor tpe, final List<ExecutorWarmUpTask> tasks,
+            final int iterations, final long timeoutMillis) {
+        Assert.isTrue(iterations >= 0, "Iterations must be greater than or equal to 0");
+        Assert.isTrue(timeoutMillis > 0, "TimeoutMillis must be greater than 0");
+        this.name = name;
+        this.tpe = tpe;
+        this.tasks = tasks.isEmpty() ? List.of(executorName -> { }) : tasks;
+        this.iterations = iterations;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * @param scheduler
+     */
+    public synchronized void start(final ScheduledExecutorService scheduler) {
+        startMillis = System.currentTimeMillis();
+        prestartedThreads = tpe.prestartAllCoreThreads();
+        if (!(tpe instanceof ScheduledThreadPoolExecutor) && tpe.getCorePoolSize() > 0) {
+            submitTasks(tpe.getQueue());
+        }
+        future = scheduler.scheduleWithFixedDelay(this, 0, CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void submitTasks(final BlockingQueue<Runnable> queue) {
+        // taken by the prestarted core threads
+        for (int i = 0; i < iterations; i++) {
+            for (ExecutorWarmUpTask task : tasks) {
+                if (!queue.offer(() -> run(task))) {
+                    // queue full: the warm-up tasks already submitted are enough
+                    return;
+                }
+                submittedTasks++;
+            }
+        }
+    }
+
+    private void run(final ExecutorWarmUpTask task) {
+        try {
+            task.warmUp(name);
+        } catch (RuntimeException e) {
+            failedTasks.incrementAndGet();
+        } finally {
+            completedTasks.incrementAndGet();
+        }
+    }
+
+    /**
+     * 
+     */
+    public synchronized void stop() {
+        if (state == WarmUpState.warmingUp) {
+            end(WarmUpState.cancelled);
+        }
+    }
+
+    /**
+     *
+     */
+    @Override
+    public synchronized void run() {
+        if (state != WarmUpState.warmingUp) {
+            return;
+        }
+        if (tpe.getPoolSize() >= tpe.getCorePoolSize() && completedTasks.get() >= submittedTasks) {
+            end(WarmUpState.ready);
+        } else if (System.currentTimeMillis() - startMillis >= timeoutMillis) {
+            end(WarmUpState.timedOut);
+        }
+    }
+
+    private void end(final WarmUpState endState) {
+        state = endState;
+        endMillis = System.currentTimeMillis();
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+    }
+
+    /**
+     * @return
+     */
+    public synchronized WarmUpState getState() {
+        return state;
+    }
+
+    /**
+     * @return
+     */
+    public synchronized WarmUpDTO toDTO() {
+        return new WarmUpDTO(state,
+                (state == WarmUpState.warmingUp ? System.currentTimeMillis() : endMillis) - startMillis,
+                timeoutMillis,
+                prestartedThreads,
+                tpe.getPoolSize(),
+                tpe.getCorePoolSize(),
+                submittedTasks,
+                completedTasks.get(),
+                failedTasks.get());
+    }
+
+}
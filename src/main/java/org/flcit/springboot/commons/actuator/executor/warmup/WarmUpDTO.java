@@ -0,0 +1,111 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.executor.warmup;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+public class WarmUpDTO {
+
+    private final WarmUpState state;
+    private final long elapsedMillis;
+    private final long timeoutMillis;
+    private final int prestartedThreads;
+    private final int poolSize;
+    private final int corePoolSize;
+    private final int submittedTasks;
+    private final int completedTasks;
+    private final int failedTasks;
+
+    @SuppressWarnings("java:S107")
+    WarmUpDTO(WarmUpState state, long elapsedMillis, long timeoutMillis, int prestartedThreads, int poolSize, int corePoolSize, int submittedTasks, int completedTasks, int failedTasks) {
+        this.state = state;
+        this.elapsedMillis = elapsedMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.prestartedThreads = prestartedThreads;
+        this.poolSize = poolSize;
+        this.corePoolSize = corePoolSize;
+        this.submittedTasks = submittedTasks;
+        this.completedTasks = completedTasks;
+        this.failedTasks = failedTasks;
+    }
+
+    /**
+     * @return
+     */
+    public WarmUpState getState() {
+        return state;
+    }
+
+    /**
+     * @return elapsed since the start, or until the end of the warm-up
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * @return
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * @return
+     */
+    public int getPrestartedThreads() {
+        return prestartedThreads;
+    }
+
+    /**
+     * @return
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * @return
+     */
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    /**
+     * @return warm-up tasks submitted
+     */
+    public int getSubmittedTasks() {
+        return submittedTasks;
+    }
+
+    /**
+     * @return
+     */
+    public int getCompletedTasks() {
+        return completedTasks;
+    }
+
+    /**
+     * @return
+     */
+    public int getFailedTasks() {
+        return failedTasks;
+    }
+
+}
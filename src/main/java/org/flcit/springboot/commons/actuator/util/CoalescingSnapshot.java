@@ -0,0 +1,168 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flcit.springboot.commons.actuator.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.util.Assert;
+
+/**
+ * Snapshot of a costly read, reused while younger than a max age.
+ * Concurrent reads of an expired snapshot share a single computation (single-flight).
+ * A max age of zero disables the snapshot, every read computes.
+ *
+ * @param <T>
+ * @since 
+ * @author Florian Lestic
+ */
+public class CoalescingSnapshot<T> {
+
+    private static final String PROPERTY_MAX_AGE = "management.endpoint.%s.snapshot.max-age";
+
+    private final Supplier<T> supplier;
+    private final long maxAgeNanos;
+    private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+    private volatile Value<T> value;
+    private volatile long invalidatedNanos = System.nanoTime();
+
+    /**
+     * @param supplier
+     * @param maxAge
+     */
+    public CoalescingSnapshot(final Supplier<T> supplier, final Duration maxAge) {
+        Assert.notNull(supplier, "Supplier must not be null");
+        Assert.isTrue(maxAge == null || !maxAge.isNegative(), "MaxAge must not be negative");
+        this.supplier = supplier;
+        this.maxAgeNanos = maxAge != null ? maxAge.toNanos() : 0;
+    }
+
+    /**
+     * @param <T>
+     * @param environment
+     * @param endpointId
+     * @param supplier
+     * @return snapshot whose max age is {@code management.endpoint.<endpointId>.snapshot.max-age}, disabled by default
+     */
+    public static <T> CoalescingSnapshot<T> of(final Environment environment, final String endpointId, final Supplier<T> supplier) {
+        return new CoalescingSnapshot<>(supplier, getMaxAge(environment, endpointId));
+    }
+
+    /**
+     * @param environment
+     * @param endpointId
+     * @return
+     */
+    public static Duration getMaxAge(final Environment environment, final String endpointId) {
+        final String maxAge = environment.getProperty(String.format(PROPERTY_MAX_AGE, endpointId));
+        return maxAge != null ? DurationStyle.detectAndParse(maxAge) : null;
+    }
+
+    /**
+     * @return the snapshot if younger than the max age, else the result of the computation in flight or of a new one
+     */
+    public T get() {
+        if (maxAgeNanos == 0) {
+            return supplier.get();
+        }
+        while (true) {
+            final Value<T> current = value;
+            if (current != null && current.nanos - invalidatedNanos > 0 && System.nanoTime() - current.nanos < maxAgeNanos) {
+                return current.value;
+            }
+            final CompletableFuture<T> future = inFlight.get();
+            if (future != null) {
+                return join(future);
+            }
+            final CompletableFuture<T> computation = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, computation)) {
+                try {
+                    return compute(computation);
+                } finally {
+                    inFlight.compareAndSet(computation, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return a new computation, ignoring the snapshot and the computation in flight, which replaces the snapshot
+     */
+    public T refresh() {
+        return maxAgeNanos == 0 ? supplier.get() : compute(null);
+    }
+
+    /**
+     * Discards the snapshot after a write: the computations started before are neither stored nor joined by the next reads.
+     */
+    public void invalidate() {
+        invalidatedNanos = System.nanoTime();
+        value = null;
+        inFlight.set(null);
+    }
+
+    private T compute(final CompletableFuture<T> computation) {
+        // aged from the start of the computation
+        final long nanos = System.nanoTime();
+        try {
+            final T result = supplier.get();
+            final Value<T> current = value;
+            if (nanos - invalidatedNanos > 0 && (current == null || nanos - current.nanos > 0)) {
+                value = new Value<>(result, nanos);
+            }
+            if (computation != null) {
+                computation.complete(result);
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            if (computation != null) {
+                computation.completeExceptionally(e);
+            }
+            throw e;
+        }
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Value<T> {
+
+        private final T value;
+        private final long nanos;
+
+        private Value(final T value, final long nanos) {
+            this.value = value;
+            this.nanos = nanos;
+        }
+
+    }
+
+}
@@ -18,11 +18,16 @@ package org.flcit.springboot.commons.actuator.util;
 
 import java.lang.reflect.Field;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.jms.listener.DefaultMessageListenerContainer;
 import org.springframework.jms.listener.MessageListenerContainer;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.util.Assert;
@@ -32,9 +37,14 @@ import org.springframework.web.client.RestTemplate;
 import org.flcit.springboot.commons.actuator.clienthttprequestinterceptor.BaseClientHttpRequestInterceptor;
 import org.flcit.springboot.commons.actuator.clienthttprequestinterceptor.LoggingMessageClientHttpRequestInterceptor;
 import org.flcit.springboot.commons.actuator.executor.BaseExecutor;
+import org.flcit.springboot.commons.actuator.executor.ExecutorServiceDTO;
+import org.flcit.springboot.commons.actuator.executor.ForkJoinPoolDTO;
 import org.flcit.springboot.commons.actuator.executor.SimpleAsyncTaskExecutorDTO;
+import org.flcit.springboot.commons.actuator.executor.StripedExecutorDTO;
 import org.flcit.springboot.commons.actuator.executor.ThreadPoolTaskExecutorDTO;
 import org.flcit.springboot.commons.actuator.executor.ThreadPoolTaskSchedulerDTO;
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+import org.flcit.springboot.commons.actuator.executor.striped.StripedExecutor;
 import org.flcit.springboot.commons.actuator.jms.BaseJmsListener;
 import org.flcit.springboot.commons.actuator.jms.DefaultJmsListener;
 import org.flcit.springboot.commons.actuator.resttemplate.BaseRestTemplate;
@@ -50,6 +60,12 @@ import org.flcit.commons.core.util.ReflectionUtils;
  */
 public final class CommonsActuatorUtils {
 
+    /**
+     * 
+     */
+    public static final String FIELD_TASK_DECORATOR = "taskDecorator";
+    public static final String FIELD_REJECTED_EXECUTION_HANDLER = "rejectedExecutionHandler";
+
     private CommonsActuatorUtils() { }
 
     /**
@@ -84,6 +100,48 @@ public final class CommonsActuatorUtils {
             return new ThreadPoolTaskExecutorDTO(name, threadPoolTaskExecutor);
         } else if (executor instanceof SimpleAsyncTaskExecutor simpleAsyncTaskExecutor) {
             return new SimpleAsyncTaskExecutorDTO(name, simpleAsyncTaskExecutor);
+        } else if (executor instanceof ConcurrentTaskExecutor concurrentTaskExecutor) {
+            return convert(name, concurrentTaskExecutor.getConcurrentExecutor());
+        } else if (executor instanceof ForkJoinPool forkJoinPool) {
+            return new ForkJoinPoolDTO(name, forkJoinPool);
+        } else if (executor instanceof ExecutorService executorService) {
+            return new ExecutorServiceDTO(name, executorService);
+        } else if (executor instanceof StripedExecutor stripedExecutor) {
+            return new StripedExecutorDTO(name, stripedExecutor);
+        }
+        return null;
+    }
+
+    /**
+     * @param executor
+     * @return the executor wrapped by a {@link ConcurrentTaskExecutor}, or the executor itself
+     */
+    public static Object unwrap(final Object executor) {
+        return executor instanceof ConcurrentTaskExecutor concurrentTaskExecutor ? concurrentTaskExecutor.getConcurrentExecutor() : executor;
+    }
+
+    /**
+     * @param executor
+     * @return
+     */
+    public static ThreadPoolExecutor getThreadPoolExecutor(final Object executor) {
+        if (executor instanceof ThreadPoolTaskScheduler threadPoolTaskScheduler) {
+            return threadPoolTaskScheduler.getScheduledThreadPoolExecutor();
+        } else if (executor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            return threadPoolTaskExecutor.getThreadPoolExecutor();
+        }
+        return unwrap(executor) instanceof ThreadPoolExecutor threadPoolExecutor ? threadPoolExecutor : null;
+    }
+
+    /**
+     * @param executor
+     * @return
+     */
+    public static InstrumentedTaskDecorator getInstrumentation(final Object executor) {
+        if (executor instanceof ThreadPoolTaskExecutor
+                || executor instanceof ThreadPoolTaskScheduler) {
+            final TaskDecorator taskDecorator = ReflectionUtils.getSafeFieldValue(executor, FIELD_TASK_DECORATOR, TaskDecorator.class);
+            return taskDecorator instanceof InstrumentedTaskDecorator instrumentedTaskDecorator ? instrumentedTaskDecorator : null;
         }
         return null;
     }
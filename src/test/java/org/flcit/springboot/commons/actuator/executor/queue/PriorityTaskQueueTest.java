@@ -0,0 +1,144 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flcit.springboot.commons.actuator.executor.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTask;
+import org.flcit.springboot.commons.actuator.executor.instrument.InstrumentedTaskDecorator;
+
+/**
+ * 
+ * @since 
+ * @author Florian Lestic
+ */
+class PriorityTaskQueueTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolExecutor source;
+    private ThreadPoolExecutor target;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        source = busyExecutor();
+        target = busyExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        source.shutdownNow();
+        target.shutdownNow();
+    }
+
+    @Test
+    void pollReturnsTheTaskOffered() throws InterruptedException {
+        final PriorityTaskQueue queue = new PriorityTaskQueue(10);
+        final Runnable low = new PrioritizedRunnable(1);
+        final Runnable high = new PrioritizedRunnable(5);
+        queue.offer(low);
+        queue.offer(high);
+        assertSame(high, queue.poll());
+        assertSame(low, queue.take());
+        assertTrue(queue.getDepths().isEmpty());
+    }
+
+    @Test
+    void transferKeepsPrioritiesBetweenPriorityQueues() {
+        final List<Runnable> tasks = List.of(new PrioritizedRunnable(0), new PrioritizedRunnable(5), new PrioritizedRunnable(1));
+        tasks.forEach(source::execute);
+
+        assertEquals(3, QueueTransfer.transfer(source, target, null, Integer.MAX_VALUE));
+
+        assertTrue(source.getQueue().isEmpty());
+        final PriorityTaskQueue queue = (PriorityTaskQueue) target.getQueue();
+        assertEquals(Map.of(5, 1, 1, 1, 0, 1), queue.getDepths());
+        assertSame(tasks.get(1), queue.poll());
+        assertSame(tasks.get(2), queue.poll());
+        assertSame(tasks.get(0), queue.poll());
+    }
+
+    @Test
+    void transferAdoptsInstrumentedTasksBetweenPriorityQueues() {
+        final InstrumentedTaskDecorator sourceInstrumentation = new InstrumentedTaskDecorator(null);
+        final InstrumentedTaskDecorator targetInstrumentation = new InstrumentedTaskDecorator(null);
+        final List<Runnable> tasks = List.of(new PrioritizedRunnable(0), new PrioritizedRunnable(5), new PrioritizedRunnable(1));
+        tasks.forEach(task -> source.execute(sourceInstrumentation.decorate(task)));
+
+        assertEquals(3, QueueTransfer.transfer(source, target, targetInstrumentation, Integer.MAX_VALUE));
+
+        assertEquals(3, targetInstrumentation.getStatistics().getSubmittedTaskCount());
+        final PriorityTaskQueue queue = (PriorityTaskQueue) target.getQueue();
+        assertEquals(Map.of(5, 1, 1, 1, 0, 1), queue.getDepths());
+        for (int index: new int[] { 1, 2, 0 }) {
+            final InstrumentedTask task = assertInstanceOf(InstrumentedTask.class, queue.poll());
+            assertSame(tasks.get(index), task.getOriginal());
+            assertSame(tasks.get(index), task.getTask());
+            assertEquals(((Prioritized) tasks.get(index)).getPriority(), task.getPriority());
+        }
+    }
+
+    private ThreadPoolExecutor busyExecutor() throws InterruptedException {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new PriorityTaskQueue(10));
+        // the single worker is kept busy: the tasks stay queued
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        return executor;
+    }
+
+    private static final class PrioritizedRunnable implements Runnable, Prioritized {
+
+        private final int priority;
+
+        private PrioritizedRunnable(final int priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public void run() {
+            // nothing to do
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+    }
+
+}